@@ -3,17 +3,34 @@
  * @author Udita Agarwal
  * @version 0.1
  * Date of creation: November 4th, 2021
- * Last Date Modified: November 11th, 2021
+ * Last Date Modified: October 17th, 2026
  */
 
 
+import java.io.IOException; // thrown by the target of appendTo
+import java.util.Arrays; // to use the bulk array copy methods
+import java.util.Collection; // to add a batch of items at once
+import java.util.Comparator; // to sort the list
 import java.util.Iterator; // to use the iterator 
 import java.util.ListIterator; // to use the list iterator 
+import java.util.Spliterator; // to split the list for parallel streams
+import java.util.concurrent.ForkJoinPool; // to run the parallel bulk operations
+import java.util.concurrent.RecursiveAction; // to split the parallel bulk operations into ranges
+import java.util.function.Consumer; // to pass the elements to a spliterator action
+import java.util.function.Predicate; // to select the items removeIf removes
+import java.util.function.UnaryOperator; // to compute the items replaceAll stores
 
 public class ArrayList<E> implements List<E>{
     // data members 
     private E[] elements;
     private int size;
+    private HashIndex index; // maps elements to positions, null unless indexed mode is on
+    private GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT; // decides how far elements grows and shrinks
+
+    // lists smaller than this run the parallel bulk operations sequentially
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+    // ranges smaller than this are not split any further by the parallel bulk operations
+    private static final int PARALLEL_CHUNK = 1 << 12;
 
      /***
 	 * Default constructor
@@ -36,6 +53,16 @@ public class ArrayList<E> implements List<E>{
         size = 0;
     }
 
+    /***
+	 * Constructor for ArrayList class
+	 * @param capacity which contains the capacity the ArrayList should have
+	 * @param growthPolicy which decides how far the list grows and whether it shrinks
+	 */
+    public ArrayList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
     /***
 	 * Method to add an item 
 	 * @param item which contains the item that needs to be added 
@@ -56,11 +83,15 @@ public class ArrayList<E> implements List<E>{
             throw new ArrayIndexOutOfBoundsException();
         }
         ensureCapacity(); // grows the list size if needed 
-		// adds the element to the correct index 
-        for(int i = size - 1; i > index; i--){
-            elements[i + 1] = elements[i];
-        }
+		// shifts the tail one slot to the right in a single block move
+        System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = item;
+        if (this.index != null) {
+            if (index < size) {
+                this.index.shift(index, 1); // positions after the insert move one slot right
+            }
+            this.index.add(item, index, elements);
+        }
         size++;
         return true;
     }
@@ -85,6 +116,10 @@ public class ArrayList<E> implements List<E>{
         checkIndex(index); // checks validity of the index 
         E oldItem = elements[index];
         elements[index] = item;
+        if (this.index != null) {
+            this.index.remove(oldItem, index);
+            this.index.add(item, index, elements);
+        }
         return oldItem;
     }
 
@@ -103,7 +138,12 @@ public class ArrayList<E> implements List<E>{
 	 * no return value
 	 */
     public void clear() { 
+        Arrays.fill(elements, 0, size, null); // lets the removed items be garbage collected
         size = 0; 
+        if (index != null) {
+            index.clear();
+        }
+        shrinkIfNeeded();
     }
 
     /***
@@ -121,14 +161,31 @@ public class ArrayList<E> implements List<E>{
 	 * @return true if it has been removed
 	 */
 	public boolean remove(Object o) { // O(n)
-		E item = (E) o;
-		for (int i = 0; i < size; i++) { // O(n)
-			if (elements[i].equals(item)) {
-				remove(i); // O(n)
-				return true;
+		int i = indexOf(o); // O(1) expected when indexed, O(n) otherwise
+		if (i < 0) {
+			return false;
+		}
+		remove(i); // O(n)
+		return true;
+	}
+
+	/***
+	 * Method to find the first index of an item
+	 * @param o the item that has to be found
+	 * @return index of the item, or -1 if it is not in the list
+	 */
+	public int indexOf(Object o) { // O(n), O(1) expected when indexed
+		if (index != null) {
+			return index.indexOf(o, elements);
+		}
+		for (int i = 0; i < size; i++) {
+			if (o == null ? elements[i] == null : o.equals(elements[i])) {
+				if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.compared(i + 1);
+				return i;
 			}
 		}
-		return false;
+		if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.compared(size);
+		return -1;
 	}
 	 
 	/***
@@ -139,13 +196,333 @@ public class ArrayList<E> implements List<E>{
 	public E remove(int index) { // O(n)
         checkIndex(index);
         E item = elements[index];
-        for(int i = index; i < size - 1; i++) { // O(n)
-            elements[i] = elements[i+1];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1); // O(n)
+        elements[--size] = null; // lets the removed item be garbage collected
+        if (this.index != null) {
+            this.index.remove(item, index);
+            if (index < size) {
+                this.index.shift(index + 1, -1); // positions after the removed item move one slot left
+            }
         }
-        size--;
+        shrinkIfNeeded();
         return item;
    }
 
+    /***
+	 * Method to add all the items of a collection at the end of the list
+	 * @param items which contains the items that need to be added
+	 * @return true if the list changed
+	 */
+    public boolean addAll(Collection<? extends E> items) { // O(k)
+        return addAll(size, items);
+    }
+
+    /***
+	 * Method to add all the items of a collection starting at the specific index
+	 * Grows the array at most once and shifts the tail once for the whole batch
+	 * @param index where the first item has to be added
+	 * @param items which contains the items that need to be added
+	 * @return true if the list changed
+	 */
+    public boolean addAll(int index, Collection<? extends E> items) { // O(n + k)
+        if(index > size || index < 0){
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        Object[] batch = items.toArray();
+        int count = batch.length;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(batch, 0, elements, index, count);
+        if (this.index != null) {
+            if (index < size) {
+                this.index.shift(index, count);
+            }
+            for (int i = 0; i < count; i++) {
+                this.index.add(batch[i], index + i, elements);
+            }
+        }
+        size += count;
+        return true;
+    }
+
+    /***
+	 * Method to remove the items between two indexes from the list
+	 * Shifts the tail once for the whole range
+	 * @param fromIndex index of the first item to be removed
+	 * @param toIndex index after the last item to be removed
+	 * no return value
+	 */
+    public void removeRange(int fromIndex, int toIndex) { // O(n)
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Invalid range [" + fromIndex + ", " + toIndex + ") for size " + size);
+        }
+        if (index != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                index.remove(elements[i], i);
+            }
+            index.shift(toIndex, fromIndex - toIndex);
+        }
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null); // lets the removed items be garbage collected
+        size = newSize;
+        shrinkIfNeeded();
+    }
+
+
+   /***
+	 * Method to turn on indexed mode, which keeps a hash index from elements to positions
+	 * Makes contains, indexOf and remove(Object) O(1) expected
+	 * no parameters
+	 * no return value
+	 */
+   public void enableIndex() { // O(n)
+       if (index != null) {
+           return;
+       }
+       index = new HashIndex(size);
+       for (int i = 0; i < size; i++) {
+           index.add(elements[i], i, elements);
+       }
+   }
+
+   /***
+	 * Method to turn off indexed mode and drop the index
+	 * no parameters
+	 * no return value
+	 */
+   public void disableIndex() { // O(1)
+       index = null;
+   }
+
+   /***
+	 * Method to check if indexed mode is on
+	 * no parameters
+	 * @return true if the list keeps a hash index
+	 */
+   public boolean isIndexed() { // O(1)
+       return index != null;
+   }
+
+   /***
+	 * Method to return the memory overhead of the hash index
+	 * no parameters
+	 * @return bytes used by the index, 0 when indexed mode is off
+	 */
+   public long indexMemoryBytes() { // O(1)
+       return index == null ? 0 : index.memoryBytes();
+   }
+
+   /***
+	 * Method to pass every item of the list to an action, reading the array directly
+	 * @param action which is called with every item in order
+	 * no return value
+	 */
+   public void forEach(Consumer<? super E> action) { // O(n)
+       E[] array = elements;
+       int n = size;
+       for (int i = 0; i < n; i++) {
+           action.accept(array[i]);
+       }
+   }
+
+   /***
+	 * Method to replace every item with the result of an operator
+	 * @param operator which is applied to every item
+	 * no return value
+	 */
+   public void replaceAll(UnaryOperator<E> operator) { // O(n)
+       try {
+           for (int i = 0; i < size; i++) {
+               elements[i] = operator.apply(elements[i]);
+           }
+       } finally {
+           rebuildIndex(); // also when the operator throws after replacing some items
+       }
+   }
+
+   /***
+	 * Method to remove every item which matches a predicate
+	 * The predicate is evaluated into a bit set before anything moves, so if it throws the list is unchanged
+	 * @param filter which returns true for the items that have to be removed
+	 * @return true if any item was removed
+	 */
+   public boolean removeIf(Predicate<? super E> filter) { // O(n)
+       long[] removed = new long[(size + 63) >>> 6];
+       for (int i = 0; i < size; i++) {
+           if (filter.test(elements[i])) {
+               removed[i >>> 6] |= 1L << i;
+           }
+       }
+       return removeMarked(removed);
+   }
+
+   /***
+	 * Method to sort the list with a stable merge sort
+	 * @param comparator which orders the items, or null for their natural ordering
+	 * no return value
+	 */
+   public void sort(Comparator<? super E> comparator) { // O(n log n)
+       try {
+           Arrays.sort(elements, 0, size, comparator);
+       } finally {
+           rebuildIndex(); // also when the comparator throws halfway through
+       }
+   }
+
+   /***
+	 * Method to pass every item to an action, splitting the list over the common ForkJoinPool
+	 * Items are not visited in order, lists below PARALLEL_THRESHOLD run sequentially
+	 * @param action which is called with every item, from several threads at once
+	 * no return value
+	 */
+   public void parallelForEach(Consumer<? super E> action) { // O(n / cores)
+       E[] array = elements;
+       forEachRange((from, to) -> {
+           for (int i = from; i < to; i++) {
+               action.accept(array[i]);
+           }
+       });
+   }
+
+   /***
+	 * Method to replace every item with the result of an operator, splitting the list over the common ForkJoinPool
+	 * @param operator which is applied to every item, from several threads at once
+	 * no return value
+	 */
+   public void parallelReplaceAll(UnaryOperator<E> operator) { // O(n / cores)
+       E[] array = elements;
+       try {
+           forEachRange((from, to) -> {
+               for (int i = from; i < to; i++) {
+                   array[i] = operator.apply(array[i]);
+               }
+           });
+       } finally {
+           rebuildIndex(); // also when the operator throws after replacing some items
+       }
+   }
+
+   /***
+	 * Method to remove every item which matches a predicate
+	 * The predicate is evaluated in parallel into a bit set, then the survivors are compacted in one pass,
+	 * so if the predicate throws the list is unchanged
+	 * @param filter which returns true for the items that have to be removed, called from several threads at once
+	 * @return true if any item was removed
+	 */
+   public boolean parallelRemoveIf(Predicate<? super E> filter) { // O(n / cores + n)
+       if (size < PARALLEL_THRESHOLD) {
+           return removeIf(filter);
+       }
+       E[] array = elements;
+       long[] removed = new long[(size + 63) >>> 6];
+       // ranges are split on multiples of 64 so no two threads write the same word of the bit set
+       forEachRange((from, to) -> {
+           for (int i = from; i < to; i++) {
+               if (filter.test(array[i])) {
+                   removed[i >>> 6] |= 1L << i;
+               }
+           }
+       });
+       return removeMarked(removed);
+   }
+
+   /***
+	 * Method to sort the list with the parallel stable merge sort of the common ForkJoinPool
+	 * @param comparator which orders the items, or null for their natural ordering
+	 * no return value
+	 */
+   public void parallelSort(Comparator<? super E> comparator) { // O(n log n / cores)
+       try {
+           Arrays.parallelSort(elements, 0, size, comparator);
+       } finally {
+           rebuildIndex(); // also when the comparator throws halfway through
+       }
+   }
+
+   /***
+	 * Method to run a body over [0, size), split into ranges on the common ForkJoinPool
+	 * @param body which is run for every range
+	 * no return value
+	 */
+   private void forEachRange(RangeBody body) {
+       if (size < PARALLEL_THRESHOLD) {
+           body.run(0, size);
+       } else {
+           ForkJoinPool.commonPool().invoke(new RangeTask(body, 0, size));
+       }
+   }
+
+   /***
+	 * Method to compact away the items whose bit is set, in one pass
+	 * @param removed which contains one bit per item, set for the items that have to be removed
+	 * @return true if any item was removed
+	 */
+   private boolean removeMarked(long[] removed) { // O(n)
+       int kept = 0;
+       for (int i = 0; i < size; i++) {
+           if ((removed[i >>> 6] & (1L << i)) == 0) {
+               elements[kept++] = elements[i];
+           }
+       }
+       return truncate(kept);
+   }
+
+   /***
+	 * Method to drop the items at or after newSize once they have been compacted away
+	 * @param newSize which contains the number of items kept
+	 * @return true if any item was dropped
+	 */
+   private boolean truncate(int newSize) {
+       if (newSize == size) {
+           return false;
+       }
+       Arrays.fill(elements, newSize, size, null); // lets the removed items be garbage collected
+       size = newSize;
+       shrinkIfNeeded();
+       rebuildIndex();
+       return true;
+   }
+
+   private void rebuildIndex() {
+       if (index != null) {
+           index = null;
+           enableIndex();
+       }
+   }
+
+   // body of a parallel bulk operation, run for one range of indexes
+   private interface RangeBody {
+       void run(int from, int to);
+   }
+
+   // Inner task class which splits a range in half until it is small enough to run
+   private static class RangeTask extends RecursiveAction {
+       private static final long serialVersionUID = 1L;
+
+       // data members
+       private final RangeBody body;
+       private final int from;
+       private final int to;
+
+       RangeTask(RangeBody body, int from, int to) {
+           this.body = body;
+           this.from = from;
+           this.to = to;
+       }
+
+       protected void compute() {
+           if (to - from <= PARALLEL_CHUNK) {
+               body.run(from, to);
+               return;
+           }
+           int mid = ((from + to) >>> 1) & ~63; // multiple of 64, see parallelRemoveIf
+           invokeAll(new RangeTask(body, from, mid), new RangeTask(body, mid, to));
+       }
+   }
 
    /***
 	 * Method to trim the list to the accurate size
@@ -154,11 +531,8 @@ public class ArrayList<E> implements List<E>{
 	 */
    public void trimToSize() { // O(n)
        if (size != elements.length) {
-           E[] newElements = (E[]) new Object[size];
-           for (int i = 0; i < size; i++) {
-               newElements[i] = elements[i];
-           }
-           elements = newElements;
+           elements = Arrays.copyOf(elements, size);
+           if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.resized(size, arrayBytes(size));
        }
    }
 
@@ -168,18 +542,115 @@ public class ArrayList<E> implements List<E>{
 	 * no parameters
 	 * no return value
 	 */
-   private int ensureCapacity() { // O(n)
-       int iterations=0;
-       if (size >= elements.length) {
-           int newCap = (int) (elements.length * 1.5);
-           E[] newElements = (E[]) new Object[newCap];
-           for (int i = 0; i < size; i++) {
-               newElements[i] = elements[i];
-               iterations++;
-           }
-           elements = newElements;
+   private void ensureCapacity() { // O(n)
+       grow(size + 1);
+   }
+
+   /***
+	 * Method to grow the list so it can hold at least minCapacity items
+	 * @param minCapacity which contains the number of items the list must be able to hold
+	 * no return value
+	 */
+   public void ensureCapacity(int minCapacity) { // O(n)
+       grow(minCapacity);
+   }
+
+   /***
+	 * Method to replace elements with a bigger array in a single block copy
+	 * @param minCapacity which contains the number of items the list must be able to hold
+	 * no return value
+	 */
+   private void grow(int minCapacity) { // O(n)
+       if (minCapacity <= elements.length) {
+           return;
+       }
+       int newCap = growthPolicy.grow(elements.length, minCapacity);
+       if (newCap < minCapacity) {
+           throw new IllegalStateException(growthPolicy + " grew to " + newCap + " but " + minCapacity + " slots are needed");
        }
-       return iterations;
+       elements = Arrays.copyOf(elements, newCap);
+       if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.resized(size, arrayBytes(newCap));
+   }
+
+   /***
+	 * Method to ask the growth policy whether to cut elements down after items were removed
+	 * no parameters
+	 * no return value
+	 */
+   private void shrinkIfNeeded() { // O(1), O(n) when it shrinks
+       int newCap = growthPolicy.shrink(elements.length, size);
+       if (newCap < elements.length && newCap >= size) {
+           elements = Arrays.copyOf(elements, newCap);
+           if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.shrunk(size, arrayBytes(newCap));
+       }
+   }
+
+   /***
+	 * Method to set the policy which decides how far the list grows and whether it shrinks
+	 * @param growthPolicy which contains the policy, for example GrowthPolicy.geometric(2)
+	 * no return value
+	 */
+   public void setGrowthPolicy(GrowthPolicy growthPolicy) { // O(1)
+       if (growthPolicy == null) {
+           throw new NullPointerException("Growth policy must not be null");
+       }
+       this.growthPolicy = growthPolicy;
+   }
+
+   /***
+	 * Method to return the policy which decides how far the list grows
+	 * no parameters
+	 * @return the growth policy
+	 */
+   public GrowthPolicy getGrowthPolicy() { // O(1)
+       return growthPolicy;
+   }
+
+   /***
+	 * Method to return the length of the backing array
+	 * no parameters
+	 * @return capacity of the list
+	 */
+   public int capacity() { // O(1)
+       return elements.length;
+   }
+
+   /***
+	 * Method to return the number of slots of the backing array which hold no item
+	 * no parameters
+	 * @return wasted capacity
+	 */
+   public int wastedCapacity() { // O(1)
+       return elements.length - size;
+   }
+
+   /***
+	 * Method to return the bytes taken by the slots which hold no item, assuming 4 byte references
+	 * no parameters
+	 * @return wasted bytes
+	 */
+   public long wastedBytes() { // O(1)
+       return 4L * wastedCapacity();
+   }
+
+   /***
+	 * Method to describe how much of the backing array is in use
+	 * no parameters
+	 * @return one line report
+	 */
+   public String capacityReport() { // O(1)
+       return String.format("size %d, capacity %d, %d slots wasted (%d bytes, %.1f%%), policy %s",
+               size, elements.length, wastedCapacity(), wastedBytes(),
+               elements.length == 0 ? 0.0 : 100.0 * wastedCapacity() / elements.length, growthPolicy);
+   }
+
+   /***
+	 * Method to estimate the size of a reference array, assuming 4 byte references
+	 * @param length which contains the length of the array
+	 * @return bytes used by the array including its header
+	 */
+   private static long arrayBytes(int length) { // O(1)
+       return 16 + 4L * length;
    }
    
     /***
@@ -199,12 +670,24 @@ public class ArrayList<E> implements List<E>{
 	 * @return string containing all the values 
 	 */
    public String toString() {// O(n)
-       String output = "[";
-       for (int i = 0; i < size - 1; i++) {
-           output += elements[i] + ", ";
+       return ListWriter.render(this, size == 0 ? null : elements[0]);
+   }
+
+   /***
+	 * Method to write the values of the list in the same format as toString, a chunk at a time
+	 * @param out which is the target the values are written to
+	 * no return value
+	 */
+   public void appendTo(Appendable out) throws IOException { // O(n)
+       ListWriter writer = new ListWriter(out);
+       writer.append('[');
+       for (int i = 0; i < size; i++) {
+           if (i > 0) {
+               writer.append(", ");
+           }
+           writer.append(elements[i]);
        }
-       output += elements[size - 1] + "]";
-       return output;
+       writer.append(']').finish();
    }
 
   
@@ -214,6 +697,7 @@ public class ArrayList<E> implements List<E>{
 	 * @return ArrayIterator
 	 */
    public Iterator<E> iterator(){
+        if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.iteratorCreated();
         return new ArrayIterator(); 
    } 
 
@@ -243,19 +727,12 @@ public class ArrayList<E> implements List<E>{
 
 	/***
 	* Method to check if that item is there in the list  
+	* The number of comparisons made is counted in ListMetrics
 	* @param item which needs to be checked if it exists in the list
-	* @return value of the iteration of where the item is found
+	* @return true if the item is found, false if it is not
 	*/
-	public int contains(E item) { // O(1)
-		Iterator<E> iter = iterator();
-		int iterations = 0;
-		while(iter.hasNext()) {
-			iterations++;
-			if(item.equals(iter.next())) {
-				return iterations;
-			}
-		}
-		return iterations;
+	public boolean contains(E item) { // O(n), O(1) expected when indexed
+		return indexOf(item) >= 0;
 	}
 
     /***
@@ -264,6 +741,7 @@ public class ArrayList<E> implements List<E>{
 	 * @return ArrayListIterator
 	 */
    public ListIterator<E> listIterator(){ 
+       if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.iteratorCreated();
        return new ArrayListIterator(); 
    }
 
@@ -276,10 +754,80 @@ public class ArrayList<E> implements List<E>{
        if(index < 0 || index > size){
            throw new ArrayIndexOutOfBoundsException();
        } else{ 
+            if (ListMetrics.ENABLED) ListMetrics.ARRAY_LIST.iteratorCreated();
             return new ArrayListIterator(size);
     }
 }
 
+   /***
+	 * Method to generate a spliterator which splits the list by index range
+	 * no parameters
+	 * @return ArraySpliterator
+	 */
+   public Spliterator<E> spliterator() {
+       return new ArraySpliterator(0, -1);
+   }
+
+   // Inner spliterator class which covers the index range [index, fence)
+   private class ArraySpliterator implements Spliterator<E> {
+       // data members, fence is -1 until first use so the spliterator sees adds made after it was created
+       private int index;
+       private int fence;
+
+       private ArraySpliterator(int origin, int fence) {
+           this.index = origin;
+           this.fence = fence;
+       }
+
+       private int getFence() {
+           if (fence < 0) {
+               fence = size;
+           }
+           return fence;
+       }
+
+       /***
+	 	* Method to split off the first half of the remaining range
+	 	* no parameters
+	 	* @return spliterator over the first half, or null if the range is too small
+	 	*/
+       public Spliterator<E> trySplit() { // O(1)
+           int hi = getFence();
+           int mid = (index + hi) >>> 1;
+           if (index >= mid) {
+               return null;
+           }
+           ArraySpliterator prefix = new ArraySpliterator(index, mid);
+           index = mid;
+           return prefix;
+       }
+
+       public boolean tryAdvance(Consumer<? super E> action) {
+           if (index < getFence()) {
+               action.accept(elements[index++]);
+               return true;
+           }
+           return false;
+       }
+
+       public void forEachRemaining(Consumer<? super E> action) {
+           E[] array = elements;
+           int hi = getFence();
+           for (int i = index; i < hi; i++) {
+               action.accept(array[i]);
+           }
+           index = hi;
+       }
+
+       public long estimateSize() {
+           return getFence() - index;
+       }
+
+       public int characteristics() {
+           return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+       }
+   }
+
    // Inner array list iterator class which implements ListIterator of Generic type
    class ArrayListIterator implements ListIterator<E>{
      // data member   
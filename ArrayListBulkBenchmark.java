@@ -0,0 +1,90 @@
+/***
+ * Class to benchmark the bulk block-move operations of ArrayList against per-element loops
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to build the batches
+
+public class ArrayListBulkBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 10000 100000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {10_000, 100_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		int batchSize = 1_000;
+		Integer[] batch = new Integer[batchSize];
+		for (int i = 0; i < batchSize; i++) batch[i] = i;
+
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			String params = "Integer/" + size;
+
+			// shifting the tail one slot at a time, the way add(int, E) and remove(int) used to
+			ListBenchmark.run("shift.perSlotLoop", params, () -> filledArray(size), array -> {
+				for (int i = array.length - 2; i >= 0; i--) array[i + 1] = array[i];
+				return array.length;
+			});
+			ListBenchmark.run("shift.arraycopy", params, () -> filledArray(size), array -> {
+				System.arraycopy(array, 0, array, 1, array.length - 1);
+				return array.length;
+			});
+
+			// inserting a batch in the middle
+			ListBenchmark.run("insertBatch.addAtIndexLoop", params, () -> filledList(size), list -> {
+				int index = list.size() / 2;
+				for (int i = 0; i < batchSize; i++) list.add(index + i, batch[i]);
+				return batchSize;
+			});
+			ListBenchmark.run("insertBatch.addAll", params, () -> filledList(size), list -> {
+				list.addAll(list.size() / 2, Arrays.asList(batch));
+				return batchSize;
+			});
+
+			// removing a batch from the middle
+			ListBenchmark.run("removeBatch.removeIndexLoop", params, () -> filledList(size), list -> {
+				int index = list.size() / 2;
+				for (int i = 0; i < batchSize; i++) list.remove(index);
+				return batchSize;
+			});
+			ListBenchmark.run("removeBatch.removeRange", params, () -> filledList(size), list -> {
+				int index = list.size() / 2;
+				list.removeRange(index, index + batchSize);
+				return batchSize;
+			});
+
+			// appending to an empty list with and without presizing
+			ListBenchmark.run("append.addLoop", params, () -> new ArrayList<Integer>(), list -> {
+				for (int i = 0; i < size; i++) list.add(batch[i % batchSize]);
+				return size;
+			});
+			ListBenchmark.run("append.ensureCapacity", params, () -> new ArrayList<Integer>(), list -> {
+				list.ensureCapacity(size);
+				for (int i = 0; i < size; i++) list.add(batch[i % batchSize]);
+				return size;
+			});
+		}
+	}
+
+	private static Integer[] filledArray(int size) {
+		Integer[] array = new Integer[size];
+		for (int i = 0; i < size; i++) array[i] = i;
+		return array;
+	}
+
+	private static ArrayList<Integer> filledList(int size) {
+		ArrayList<Integer> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) list.add(i);
+		return list;
+	}
+}
@@ -0,0 +1,402 @@
+/***
+ * Class to model the class CompactDoublyLinkedList which is a generic class and implements the interface List<E>
+ * Same API as DoublyLinkedList without any Node objects: every element lives in a slot, the values are
+ * kept in an Object[] and the next and previous links in two int[] arrays
+ * Free slots are kept on a stack linked through the next array and reused by the add methods
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to grow and sort the arrays
+import java.util.Comparator; // to order the items in sort
+import java.util.Iterator; // to use the iterator class
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class CompactDoublyLinkedList<E> implements List<E>{
+
+	private static final int NIL = -1; // link to no slot
+
+	// Data members
+	private E[] values;
+	private int[] next;
+	private int[] previous;
+	private int head, tail;
+	private int freeTop; // first slot of the free stack, NIL when empty
+	private int used; // slots at or after this index have never been used
+	private int size;
+
+	/***
+	 * Default constructor for CompactDoublyLinkedList class
+	 * Initializes the arrays to a default size of 10
+	 */
+	public CompactDoublyLinkedList() {
+		this(10);
+	}
+
+	/***
+	 * Constructor for CompactDoublyLinkedList class
+	 * @param capacity which contains the number of slots to start with
+	 * Initialises head and tail to no slot and size to 0
+	 */
+	public CompactDoublyLinkedList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		values = newArray(capacity);
+		next = new int[capacity];
+		previous = new int[capacity];
+		head = tail = freeTop = NIL;
+		used = 0;
+		size = 0;
+	}
+
+	/***
+	 * Method to add an item right in the front of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addFirst(E item) { // O(1) amortized
+		int slot = allocate(item);
+		previous[slot] = NIL;
+		next[slot] = head;
+		if (head == NIL) {
+			tail = slot;
+		} else {
+			previous[head] = slot;
+		}
+		head = slot;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to add an item right in the end of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addLast(E item) { // O(1) amortized
+		int slot = allocate(item);
+		next[slot] = NIL;
+		previous[slot] = tail;
+		if (tail == NIL) {
+			head = slot;
+		} else {
+			next[tail] = slot;
+		}
+		tail = slot;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return calls method addLast(item)
+	 */
+	public boolean add(E item) { // O(1) amortized
+		return addLast(item);
+	}
+
+	/***
+	 * Method to retrieve the first element in the list (head)
+	 * no parameters
+	 * @return value of head
+	 */
+	public E getFirst() { // O(1)
+		if (head == NIL) {
+			throw new NoSuchElementException();
+		}
+		return values[head];
+	}
+
+	/***
+	 * Method to retrieve the last element in the list (tail)
+	 * no parameters
+	 * @return value of tail
+	 */
+	public E getLast() { // O(1)
+		if (head == NIL) {
+			throw new NoSuchElementException();
+		}
+		return values[tail];
+	}
+
+	/***
+	 * Method to remove the first element in the list (head)
+	 * no parameters
+	 * @return true
+	 */
+	public boolean removeFirst() { // O(1)
+		if (head == NIL) {
+			throw new NoSuchElementException();
+		}
+		int slot = head;
+		head = next[slot];
+		if (head == NIL) {
+			tail = NIL;
+		} else {
+			previous[head] = NIL;
+		}
+		free(slot);
+		size--;
+		return true;
+	}
+
+	/***
+	 * Method to remove the last element in the list (tail)
+	 * no parameters
+	 * @return true
+	 */
+	public boolean removeLast() { // O(1)
+		if (head == NIL) {
+			throw new NoSuchElementException();
+		}
+		int slot = tail;
+		tail = previous[slot];
+		if (tail == NIL) {
+			head = NIL;
+		} else {
+			next[tail] = NIL;
+		}
+		free(slot);
+		size--;
+		return true;
+	}
+
+	/***
+	 * Method to take a slot for an item, from the free stack when it has one
+	 * @param item which contains the item to store in the slot
+	 * @return index of the slot
+	 */
+	private int allocate(E item) { // O(1) amortized
+		int slot;
+		if (freeTop != NIL) {
+			slot = freeTop;
+			freeTop = next[slot];
+		} else {
+			if (used == values.length) {
+				int newCap = Math.max(used + 1, used + (used >> 1));
+				values = Arrays.copyOf(values, newCap);
+				next = Arrays.copyOf(next, newCap);
+				previous = Arrays.copyOf(previous, newCap);
+			}
+			slot = used++;
+		}
+		values[slot] = item;
+		return slot;
+	}
+
+	@SuppressWarnings("unchecked") // the array only ever holds elements of type E
+	private E[] newArray(int length) {
+		return (E[]) new Object[length];
+	}
+
+	/***
+	 * Method to push a slot on the free stack
+	 * @param slot which has been unlinked from the list
+	 * no return value
+	 */
+	private void free(int slot) { // O(1)
+		values[slot] = null; // lets the removed item be garbage collected
+		next[slot] = freeTop;
+		previous[slot] = NIL;
+		freeTop = slot;
+	}
+
+	/***
+	 * Method to move the elements into slots 0 to size - 1 in list order and drop the free slots
+	 * After a lot of churn this makes a traversal read the arrays sequentially again
+	 * no parameters
+	 * no return value
+	 */
+	public void compact() { // O(n)
+		E[] newValues = newArray(Math.max(size, 1));
+		int slot = head;
+		for (int i = 0; i < size; i++) {
+			newValues[i] = values[slot];
+			slot = next[slot];
+		}
+		int[] newNext = new int[newValues.length];
+		int[] newPrevious = new int[newValues.length];
+		for (int i = 0; i < size; i++) {
+			newNext[i] = (i + 1 < size) ? i + 1 : NIL;
+			newPrevious[i] = i - 1;
+		}
+		values = newValues;
+		next = newNext;
+		previous = newPrevious;
+		head = size == 0 ? NIL : 0;
+		tail = size - 1;
+		freeTop = NIL;
+		used = size;
+	}
+
+	/***
+	 * Method to sort the list, stable for equal items
+	 * The links carry no data, so the list is compacted and the value array sorted in place
+	 * @param comparator which orders the items, null for natural ordering
+	 * no return value
+	 */
+	public void sort(Comparator<? super E> comparator) { // O(n log n)
+		compact();
+		Arrays.sort(values, 0, size, comparator);
+	}
+
+	/***
+	 * Method to return the number of bytes held by the three arrays, including their headers
+	 * Assumes 4 byte references, which is what a JVM with compressed references uses
+	 * no parameters
+	 * @return bytes used by the arrays
+	 */
+	public long memoryBytes() { // O(1)
+		return 3L * 16 + 4L * values.length + 4L * next.length + 4L * previous.length;
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		StringBuilder output = new StringBuilder("[");
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			output.append(values[slot]).append(' ');
+		}
+		return output.append(']').toString();
+	}
+
+	/***
+	 * Method to clear the list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(n)
+		Arrays.fill(values, 0, used, null);
+		head = tail = freeTop = NIL;
+		used = 0;
+		size = 0;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return size;
+	}
+
+	/***
+	 * Method to generate an iterator for the list
+	 * no parameters
+	 * @return CompactListIterator
+	 */
+	public Iterator<E> iterator() { // O(1)
+		return new CompactListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return CompactListIterator
+	 */
+	public ListIterator<E> listIterator() { // O(1)
+		return new CompactListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return CompactListIterator
+	 */
+	public ListIterator<E> listIterator(int index) { // O(n)
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new CompactListIterator(index);
+	}
+
+	// Inner list iterator class which follows the link arrays in both directions
+	private class CompactListIterator implements ListIterator<E> {
+		// data members, nextSlot holds the element returned by the next call to next(), NIL past the end
+		private int nextSlot;
+		private int index;
+
+		/***
+		 * Constructor for the list iterator class
+		 * @param index which contains the position the iterator starts at
+		 */
+		private CompactListIterator(int index) { // O(n)
+			this.index = index;
+			if (index == size) {
+				nextSlot = NIL;
+			} else if (index <= size / 2) {
+				nextSlot = head;
+				for (int i = 0; i < index; i++) nextSlot = next[nextSlot];
+			} else {
+				nextSlot = tail;
+				for (int i = size - 1; i > index; i--) nextSlot = previous[nextSlot];
+			}
+		}
+
+		public boolean hasNext() { // O(1)
+			return index < size;
+		}
+
+		public E next() { // O(1)
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			E value = values[nextSlot];
+			nextSlot = next[nextSlot];
+			index++;
+			return value;
+		}
+
+		public boolean hasPrevious() { // O(1)
+			return index > 0;
+		}
+
+		public E previous() { // O(1)
+			if (index <= 0) {
+				throw new NoSuchElementException();
+			}
+			nextSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+			index--;
+			return values[nextSlot];
+		}
+
+		public int nextIndex() { // O(1)
+			return index;
+		}
+
+		public int previousIndex() { // O(1)
+			return index - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/***
+ * Class to benchmark CompactDoublyLinkedList against DoublyLinkedList
+ * Measures building the list, which shows the bytes allocated per element, and a full traversal,
+ * both on a freshly built list and after adding at both ends has scattered the elements in memory
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.ListIterator; // to traverse the lists
+import java.util.Random; // to pick the end each item is added at
+
+public class CompactListBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 10000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {10_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) values[i] = i;
+			String params = "Integer/" + size;
+			ListBenchmark.run("DoublyLinkedList.build", params, () -> values, items -> {
+				DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+				for (Integer item : items) list.addLast(item);
+				ListBenchmark.consume(list);
+				return size;
+			});
+			ListBenchmark.run("CompactDoublyLinkedList.build", params, () -> values, items -> {
+				CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>();
+				for (Integer item : items) list.addLast(item);
+				ListBenchmark.consume(list);
+				return size;
+			});
+			ListBenchmark.run("DoublyLinkedList.traverse", params, () -> fill(new DoublyLinkedList<Integer>(), values, false), list -> traverse(list));
+			ListBenchmark.run("CompactDoublyLinkedList.traverse", params, () -> fill(new CompactDoublyLinkedList<Integer>(), values, false), list -> traverse(list));
+			ListBenchmark.run("DoublyLinkedList.traverseScattered", params, () -> fill(new DoublyLinkedList<Integer>(), values, true), list -> traverse(list));
+			ListBenchmark.run("CompactDoublyLinkedList.traverseScattered", params, () -> fill(new CompactDoublyLinkedList<Integer>(), values, true), list -> traverse(list));
+			ListBenchmark.run("CompactDoublyLinkedList.traverseCompacted", params, () -> {
+				CompactDoublyLinkedList<Integer> list = fill(new CompactDoublyLinkedList<Integer>(), values, true);
+				list.compact();
+				return list;
+			}, list -> traverse(list));
+		}
+	}
+
+	/***
+	 * Method to fill a list, optionally adding each item at a random end so list order no longer follows allocation order
+	 * @param list which is the empty list to fill
+	 * @param values which contains the items to add
+	 * @param scatter which is true to add at random ends, false to always add at the end
+	 * @return the filled list
+	 */
+	private static <L extends List<Integer>> L fill(L list, Integer[] values, boolean scatter) {
+		Random random = new Random(42);
+		for (Integer value : values) {
+			boolean front = scatter && random.nextBoolean();
+			if (list instanceof DoublyLinkedList) {
+				if (front) ((DoublyLinkedList<Integer>) list).addFirst(value);
+				else list.add(value);
+			} else {
+				if (front) ((CompactDoublyLinkedList<Integer>) list).addFirst(value);
+				else list.add(value);
+			}
+		}
+		return list;
+	}
+
+	private static long traverse(List<Integer> list) {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) sum += it.next();
+		ListBenchmark.consume(sum);
+		return list.size();
+	}
+}
@@ -0,0 +1,165 @@
+/***
+ * Class to benchmark the concurrent list modes under reader contention
+ * Compares an ArrayList behind a global lock with CopyOnWriteArrayList and StampedArrayList
+ * while 1, 4, 16 and 64 reader threads iterate and get, and one writer occasionally changes the list
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.ListIterator; // to iterate the lists
+import java.util.concurrent.ThreadLocalRandom; // to pick random indexes
+import java.util.concurrent.atomic.AtomicBoolean; // to stop the threads
+import java.util.concurrent.atomic.LongAdder; // to count the operations
+import java.util.concurrent.locks.LockSupport; // to pause the writer between writes
+import java.util.function.IntFunction; // to call get on the list under test
+
+public class ConcurrentListBenchmark {
+
+	private static final int LIST_SIZE = 1_000;
+	private static final int GETS_PER_READ = 100;
+	private static final long WRITE_PAUSE_NANOS = 50_000;
+
+	// operations of the list under test
+	private interface SharedList {
+		long read(); // one full iteration followed by a batch of random gets
+		void write(int value); // one set, or an add followed by a remove
+	}
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional milliseconds per measurement followed by reader counts, for example 1000 1 4 16 64
+	 * no return value
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		long millis = args.length > 0 ? Long.parseLong(args[0]) : 1_000;
+		int[] readerCounts = {1, 4, 16, 64};
+		if (args.length > 1) {
+			readerCounts = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) readerCounts[i - 1] = Integer.parseInt(args[i]);
+		}
+		System.out.printf("%-24s %8s %16s %16s%n", "List", "Readers", "Reads/s", "Writes/s");
+		for (int readers : readerCounts) {
+			run("synchronized ArrayList", readers, millis, lockedArrayList());
+			run("CopyOnWriteArrayList", readers, millis, copyOnWrite());
+			run("StampedArrayList", readers, millis, stamped());
+		}
+	}
+
+	/***
+	 * Method to run reader threads and one writer thread against a list for a fixed time
+	 * @param name which contains the name of the list
+	 * @param readers which contains the number of reader threads
+	 * @param millis which contains how long to measure
+	 * @param list which is the list under test
+	 * no return value
+	 */
+	private static void run(String name, int readers, long millis, SharedList list) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		LongAdder reads = new LongAdder();
+		LongAdder writes = new LongAdder();
+		Thread[] threads = new Thread[readers + 1];
+		for (int r = 0; r < readers; r++) {
+			threads[r] = new Thread(() -> {
+				long sum = 0;
+				while (running.get()) {
+					sum += list.read();
+					reads.increment();
+				}
+				ListBenchmark.consume(sum);
+			});
+		}
+		threads[readers] = new Thread(() -> {
+			int value = 0;
+			while (running.get()) {
+				list.write(value++);
+				writes.increment();
+				LockSupport.parkNanos(WRITE_PAUSE_NANOS);
+			}
+		});
+		for (Thread thread : threads) thread.start();
+		Thread.sleep(millis / 4); // warmup
+		reads.reset();
+		writes.reset();
+		long begin = System.nanoTime();
+		Thread.sleep(millis);
+		double seconds = (System.nanoTime() - begin) / 1e9;
+		long readCount = reads.sum();
+		long writeCount = writes.sum();
+		running.set(false);
+		for (Thread thread : threads) thread.join();
+		System.out.printf("%-24s %8d %16.0f %16.0f%n", name, readers, readCount / seconds, writeCount / seconds);
+	}
+
+	private static long iterateAndGet(List<Integer> list, IntFunction<Integer> get, int size) {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) sum += it.next();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < GETS_PER_READ; i++) sum += get.apply(random.nextInt(size));
+		return sum;
+	}
+
+	private static SharedList lockedArrayList() {
+		ArrayList<Integer> list = new ArrayList<>();
+		for (int i = 0; i < LIST_SIZE; i++) list.add(i);
+		return new SharedList() {
+			public long read() {
+				synchronized (list) {
+					return iterateAndGet(list, list::get, LIST_SIZE);
+				}
+			}
+
+			public void write(int value) {
+				synchronized (list) {
+					if ((value & 1) == 0) {
+						list.set(value % LIST_SIZE, value);
+					} else {
+						list.add(value);
+						list.remove(list.size() - 1);
+					}
+				}
+			}
+		};
+	}
+
+	private static SharedList copyOnWrite() {
+		CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+		for (int i = 0; i < LIST_SIZE; i++) list.add(i);
+		return new SharedList() {
+			public long read() {
+				return iterateAndGet(list, list::get, LIST_SIZE);
+			}
+
+			public void write(int value) {
+				if ((value & 1) == 0) {
+					list.set(value % LIST_SIZE, value);
+				} else {
+					list.add(value);
+					list.remove(list.size() - 1);
+				}
+			}
+		};
+	}
+
+	private static SharedList stamped() {
+		StampedArrayList<Integer> list = new StampedArrayList<>();
+		for (int i = 0; i < LIST_SIZE; i++) list.add(i);
+		return new SharedList() {
+			public long read() {
+				return iterateAndGet(list, list::get, LIST_SIZE);
+			}
+
+			public void write(int value) {
+				if ((value & 1) == 0) {
+					list.set(value % LIST_SIZE, value);
+				} else {
+					list.add(value);
+					list.remove(list.size() - 1);
+				}
+			}
+		};
+	}
+}
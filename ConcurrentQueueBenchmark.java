@@ -0,0 +1,135 @@
+/***
+ * Class to benchmark LockFreeLinkedQueue against a LinkedList work queue guarded by synchronized blocks
+ * Half of the threads produce and half consume, the total number of items moved per second is reported
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.concurrent.CountDownLatch; // to start all threads at once
+import java.util.concurrent.atomic.AtomicLong; // to count the consumed items
+
+public class ConcurrentQueueBenchmark {
+
+	// operations performed by one side of the queue, implemented for both queues
+	private interface WorkQueue {
+		void produce(Integer item);
+		Integer consume(); // null if empty
+	}
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional items per producer followed by thread counts, for example 1000000 2 4 8 16
+	 * no return value
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		int itemsPerProducer = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int[] threadCounts = {2, 4, 8, 16};
+		if (args.length > 1) {
+			threadCounts = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) threadCounts[i - 1] = Integer.parseInt(args[i]);
+		}
+		System.out.printf("%-28s %8s %16s%n", "Queue", "Threads", "Thrpt (items/s)");
+		for (int threads : threadCounts) {
+			for (int round = 0; round < 3; round++) { // the first rounds warm up the JIT
+				boolean print = round == 2;
+				run("synchronized LinkedList", threads, itemsPerProducer, print, synchronizedLinkedList());
+				run("LockFreeLinkedQueue", threads, itemsPerProducer, print, lockFree());
+			}
+		}
+	}
+
+	/***
+	 * Method to move items through a queue with producer and consumer threads
+	 * @param name which contains the name of the queue
+	 * @param threads which contains the total number of threads, at least 2
+	 * @param itemsPerProducer which contains the number of items every producer adds
+	 * @param print which is true if the result has to be printed
+	 * @param queue which is the queue under test
+	 * no return value
+	 */
+	private static void run(String name, int threads, int itemsPerProducer, boolean print, WorkQueue queue)
+			throws InterruptedException {
+		int producers = Math.max(1, threads / 2);
+		int consumers = Math.max(1, threads - producers);
+		long total = (long) producers * itemsPerProducer;
+		AtomicLong consumed = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[producers + consumers];
+		for (int p = 0; p < producers; p++) {
+			workers[p] = new Thread(() -> {
+				await(start);
+				for (int i = 0; i < itemsPerProducer; i++) queue.produce(i & 1023);
+			});
+		}
+		for (int c = 0; c < consumers; c++) {
+			workers[producers + c] = new Thread(() -> {
+				await(start);
+				long sum = 0;
+				while (consumed.get() < total) {
+					Integer item = queue.consume();
+					if (item == null) {
+						Thread.onSpinWait();
+					} else {
+						sum += item;
+						consumed.incrementAndGet();
+					}
+				}
+				ListBenchmark.consume(sum);
+			});
+		}
+		for (Thread worker : workers) worker.start();
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) worker.join();
+		long nanos = System.nanoTime() - begin;
+		if (print) {
+			System.out.printf("%-28s %8d %16.0f%n", name, producers + consumers, total * 1e9 / nanos);
+		}
+	}
+
+	private static WorkQueue synchronizedLinkedList() {
+		LinkedList<Integer> list = new LinkedList<>();
+		return new WorkQueue() {
+			public void produce(Integer item) {
+				synchronized (list) {
+					list.addLast(item);
+				}
+			}
+
+			public Integer consume() {
+				synchronized (list) {
+					if (list.isEmpty()) {
+						return null;
+					}
+					Integer item = list.getFirst();
+					list.removeFirst();
+					return item;
+				}
+			}
+		};
+	}
+
+	private static WorkQueue lockFree() {
+		LockFreeLinkedQueue<Integer> queue = new LockFreeLinkedQueue<>();
+		return new WorkQueue() {
+			public void produce(Integer item) {
+				queue.offer(item);
+			}
+
+			public Integer consume() {
+				return queue.poll();
+			}
+		};
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,325 @@
+/***
+ * Class to model the class CopyOnWriteArrayList which is a thread-safe generic class and implements the interface List<E>
+ * Every write copies the array and publishes the copy, so readers and iterators never lock
+ * and an iterator always sees the immutable array it started with
+ * Suited to lists which are read far more often than they are changed
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to copy the array
+import java.util.Collection; // to add a batch of items at once
+import java.util.Iterator; // to use the iterator
+import java.util.ListIterator; // to use the list iterator
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class CopyOnWriteArrayList<E> implements List<E>{
+	// data members, the array is never changed after it is published
+	private volatile Object[] elements;
+	private final Object writeLock = new Object();
+
+	/***
+	 * Default constructor
+	 * Initializes elements to an empty array
+	 */
+	public CopyOnWriteArrayList() {
+		elements = new Object[0];
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(E item) { // O(n)
+		synchronized (writeLock) {
+			Object[] current = elements;
+			Object[] copy = Arrays.copyOf(current, current.length + 1);
+			copy[current.length] = item;
+			elements = copy;
+			return true;
+		}
+	}
+
+	/***
+	 * Method to add an item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, E item) { // O(n)
+		synchronized (writeLock) {
+			Object[] current = elements;
+			if (index > current.length || index < 0) {
+				throw new ArrayIndexOutOfBoundsException();
+			}
+			Object[] copy = new Object[current.length + 1];
+			System.arraycopy(current, 0, copy, 0, index);
+			System.arraycopy(current, index, copy, index + 1, current.length - index);
+			copy[index] = item;
+			elements = copy;
+			return true;
+		}
+	}
+
+	/***
+	 * Method to add all the items of a collection at the end of the list with a single copy
+	 * @param items which contains the items that need to be added
+	 * @return true if the list changed
+	 */
+	public boolean addAll(Collection<? extends E> items) { // O(n + k)
+		Object[] batch = items.toArray();
+		if (batch.length == 0) {
+			return false;
+		}
+		synchronized (writeLock) {
+			Object[] current = elements;
+			Object[] copy = Arrays.copyOf(current, current.length + batch.length);
+			System.arraycopy(batch, 0, copy, current.length, batch.length);
+			elements = copy;
+			return true;
+		}
+	}
+
+	/***
+	 * Method to get an item at the specific index, never locks
+	 * @param index from where item has to be retrieved
+	 * @return element at that particular index
+	 */
+	public E get(int index) { // O(1)
+		Object[] current = elements;
+		checkIndex(index, current.length);
+		return elementAt(current, index);
+	}
+
+	/***
+	 * Method to set an item at the specific index
+	 * @param index from where item has to be set
+	 * @param item which contains the item that has to be set at the specific index
+	 * @return element that used to be at that particular index
+	 */
+	public E set(int index, E item) { // O(n)
+		synchronized (writeLock) {
+			Object[] current = elements;
+			checkIndex(index, current.length);
+			E oldItem = elementAt(current, index);
+			Object[] copy = current.clone();
+			copy[index] = item;
+			elements = copy;
+			return oldItem;
+		}
+	}
+
+	/***
+	 * Method to remove the item at index from the list
+	 * @param index from where the item has to be removed
+	 * @return item which has been removed
+	 */
+	public E remove(int index) { // O(n)
+		synchronized (writeLock) {
+			Object[] current = elements;
+			checkIndex(index, current.length);
+			E item = elementAt(current, index);
+			Object[] copy = new Object[current.length - 1];
+			System.arraycopy(current, 0, copy, 0, index);
+			System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+			elements = copy;
+			return item;
+		}
+	}
+
+	/***
+	 * Method to remove the item from the list
+	 * @param o the item that has to be removed
+	 * @return true if it has been removed
+	 */
+	public boolean remove(Object o) { // O(n)
+		synchronized (writeLock) {
+			int i = indexOf(o, elements);
+			if (i < 0) {
+				return false;
+			}
+			remove(i);
+			return true;
+		}
+	}
+
+	/***
+	 * Method to find the first index of an item, never locks
+	 * @param o the item that has to be found
+	 * @return index of the item, or -1 if it is not in the list
+	 */
+	public int indexOf(Object o) { // O(n)
+		return indexOf(o, elements);
+	}
+
+	private static int indexOf(Object o, Object[] array) {
+		for (int i = 0; i < array.length; i++) {
+			if (o == null ? array[i] == null : o.equals(array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return elements.length;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return elements.length == 0;
+	}
+
+	/***
+	 * Method to clear list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(1)
+		synchronized (writeLock) {
+			elements = new Object[0];
+		}
+	}
+
+	/***
+	 * Method to copy the current array, changing the copy does not change the list
+	 * no parameters
+	 * @return copy of the list at this moment
+	 */
+	public Object[] snapshot() { // O(n)
+		return elements.clone();
+	}
+
+	/***
+	 * Method to read an element from one of the arrays of the list
+	 * @param array which contains the elements
+	 * @param index which contains the position of the element
+	 * @return the element
+	 */
+	@SuppressWarnings("unchecked") // the arrays only ever hold elements of type E
+	private E elementAt(Object[] array, int index) { // O(1)
+		return (E) array[index];
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * @param size which contains the size of the array the index is used on
+	 * no return value
+	 */
+	private static void checkIndex(int index, int size) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		return Arrays.toString(elements);
+	}
+
+	/***
+	 * Method to generate an iterator over a snapshot of the list
+	 * no parameters
+	 * @return SnapshotIterator
+	 */
+	public Iterator<E> iterator() {
+		return new SnapshotIterator(elements, 0);
+	}
+
+	/***
+	 * Method to generate a list iterator over a snapshot of the list
+	 * no parameters
+	 * @return SnapshotIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new SnapshotIterator(elements, 0);
+	}
+
+	/***
+	 * Method to generate a list iterator over a snapshot of the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return SnapshotIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		Object[] snapshot = elements;
+		if (index < 0 || index > snapshot.length) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new SnapshotIterator(snapshot, index);
+	}
+
+	// Inner list iterator class which walks an array that never changes
+	private class SnapshotIterator implements ListIterator<E> {
+		// data members
+		private final Object[] snapshot;
+		private int cursor; // index of the element returned by the next call to next()
+
+		private SnapshotIterator(Object[] snapshot, int index) {
+			this.snapshot = snapshot;
+			this.cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < snapshot.length;
+		}
+
+		public E next() {
+			if (cursor >= snapshot.length) {
+				throw new NoSuchElementException();
+			}
+			return elementAt(snapshot, cursor++);
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public E previous() {
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			return elementAt(snapshot, --cursor);
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		/***
+		 * Methods which change the list through the iterator
+		 * throw unsupported operation exception, the snapshot cannot be changed
+		 */
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/***
+ * Class to benchmark FrontCodedStringList against a sorted ArrayList<String>
+ * The reference data is countries.txt made 100 times larger by giving every country numbered regions,
+ * the memory report is printed before get, indexOf and prefixRange are measured
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.IOException; // to use the io exception class
+import java.nio.file.Files; // to read the countries file
+import java.nio.file.Paths; // to find the countries file
+import java.util.Random; // to pick the lookups
+
+public class FrontCodedBenchmark {
+
+	private static final int LOOKUPS = 10_000;
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional number of regions per country, for example 100
+	 * no return value
+	 */
+	public static void main(String[] args) throws IOException {
+		int regions = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		java.util.List<String> countries = Files.readAllLines(Paths.get("countries.txt"));
+		ArrayList<String> sorted = new ArrayList<>();
+		for (String country : countries) {
+			for (int i = 0; i < regions; i++) sorted.add(country + " / Region " + i);
+		}
+		sorted.sort(null);
+		FrontCodedStringList compressed = FrontCodedStringList.of(sorted);
+		System.out.println(compressed.memoryReport());
+
+		int size = sorted.size();
+		Random random = new Random(42);
+		int[] indexes = new int[LOOKUPS];
+		String[] keys = new String[LOOKUPS];
+		String[] prefixes = new String[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			indexes[i] = random.nextInt(size);
+			keys[i] = sorted.get(random.nextInt(size));
+			prefixes[i] = countries.get(random.nextInt(countries.size()));
+		}
+		String params = "String/" + size;
+		ListBenchmark.printHeader();
+		ListBenchmark.run("ArrayList.get", params, () -> sorted, list -> {
+			for (int index : indexes) ListBenchmark.consume(list.get(index));
+			return LOOKUPS;
+		});
+		ListBenchmark.run("FrontCodedStringList.get", params, () -> compressed, list -> {
+			for (int index : indexes) ListBenchmark.consume(list.get(index));
+			return LOOKUPS;
+		});
+		ListBenchmark.run("ArrayList.binarySearch", params, () -> sorted, list -> {
+			for (String key : keys) ListBenchmark.consume(lowerBound(list, key));
+			return LOOKUPS;
+		});
+		ListBenchmark.run("FrontCodedStringList.indexOf", params, () -> compressed, list -> {
+			for (String key : keys) ListBenchmark.consume(list.indexOf(key));
+			return LOOKUPS;
+		});
+		ListBenchmark.run("FrontCodedStringList.prefixRange", params, () -> compressed, list -> {
+			for (String prefix : prefixes) ListBenchmark.consume(list.prefixRange(prefix));
+			return LOOKUPS;
+		});
+	}
+
+	private static int lowerBound(ArrayList<String> list, String key) {
+		int low = 0;
+		int high = list.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (list.get(mid).compareTo(key) < 0) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+}
@@ -0,0 +1,451 @@
+/***
+ * Class to model the class FrontCodedStringList which implements the interface List<String>
+ * Keeps a sorted list of strings compressed with front coding: the strings are cut into blocks of a fixed size,
+ * the first string of a block is stored whole and every other string as the number of leading UTF-8 bytes
+ * it shares with the string before it followed by the rest of its bytes
+ * get decodes inside one block, indexOf and prefixRange binary search the first strings of the blocks
+ * Strings can only be added in sorted order, which makes the list read-mostly
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.nio.charset.StandardCharsets; // to encode the strings as UTF-8
+import java.util.Arrays; // to grow the arrays and sort the input
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+import java.util.function.Predicate; // to binary search for the first string after a point
+
+public class FrontCodedStringList implements List<String>{
+
+	private static final int DEFAULT_BLOCK_SIZE = 16;
+
+	// Data members
+	private final int blockSize;
+	private byte[] data; // the encoded blocks, one after the other
+	private int dataLength;
+	private int[] blockOffsets; // offset of every block in data
+	private int size;
+	private int maxLength; // longest string in UTF-8 bytes, the size of a decoding buffer
+	private String last; // last string added, to check the order
+	private byte[] lastBytes;
+
+	/***
+	 * Default constructor for FrontCodedStringList class
+	 * Initializes the block size to 16
+	 */
+	public FrontCodedStringList() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/***
+	 * Constructor for FrontCodedStringList class
+	 * @param blockSize which contains the number of strings per block, larger blocks compress better and get slower
+	 */
+	public FrontCodedStringList(int blockSize) {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+		}
+		this.blockSize = blockSize;
+		data = new byte[64];
+		blockOffsets = new int[4];
+		dataLength = 0;
+		size = 0;
+		maxLength = 0;
+	}
+
+	/***
+	 * Method to build a compressed list from any list of strings, sorting a copy of the strings first when needed
+	 * @param source which contains the strings, none of them null
+	 * @return the compressed list
+	 */
+	public static FrontCodedStringList of(List<String> source) { // O(n log n), O(n) when source is sorted
+		return of(source, DEFAULT_BLOCK_SIZE);
+	}
+
+	/***
+	 * Method to build a compressed list from any list of strings, sorting a copy of the strings first when needed
+	 * @param source which contains the strings, none of them null
+	 * @param blockSize which contains the number of strings per block
+	 * @return the compressed list
+	 */
+	public static FrontCodedStringList of(List<String> source, int blockSize) { // O(n log n), O(n) when source is sorted
+		String[] strings = new String[source.size()];
+		ListIterator<String> it = source.listIterator();
+		boolean sorted = true;
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = it.next();
+			if (strings[i] == null) {
+				throw new NullPointerException("Null strings cannot be stored");
+			}
+			if (i > 0 && sorted && strings[i - 1].compareTo(strings[i]) > 0) {
+				sorted = false;
+			}
+		}
+		if (!sorted) {
+			Arrays.sort(strings);
+		}
+		FrontCodedStringList list = new FrontCodedStringList(blockSize);
+		for (String string : strings) {
+			list.add(string);
+		}
+		list.trimToSize();
+		return list;
+	}
+
+	/***
+	 * Method to add a string to the end of the list
+	 * @param item which contains the string, it must not sort before the last string of the list
+	 * @return true if the item is added
+	 */
+	public boolean add(String item) { // O(length) amortized
+		if (item == null) {
+			throw new NullPointerException("Null strings cannot be stored");
+		}
+		if (last != null && item.compareTo(last) < 0) {
+			throw new IllegalArgumentException("Strings must be added in sorted order: \"" + item + "\" after \"" + last + "\"");
+		}
+		byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+		if (size % blockSize == 0) {
+			int block = size / blockSize;
+			if (block == blockOffsets.length) {
+				blockOffsets = Arrays.copyOf(blockOffsets, block + (block >> 1) + 1);
+			}
+			blockOffsets[block] = dataLength;
+			ensureData(5 + bytes.length);
+			putVarint(bytes.length);
+			putBytes(bytes, 0, bytes.length);
+		} else {
+			int shared = 0;
+			int limit = Math.min(bytes.length, lastBytes.length);
+			while (shared < limit && bytes[shared] == lastBytes[shared]) {
+				shared++;
+			}
+			ensureData(10 + bytes.length - shared);
+			putVarint(shared);
+			putVarint(bytes.length - shared);
+			putBytes(bytes, shared, bytes.length - shared);
+		}
+		maxLength = Math.max(maxLength, bytes.length);
+		last = item;
+		lastBytes = bytes;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to get the string at an index, decoding from the start of its block
+	 * @param index which contains the position of the string
+	 * @return the string
+	 */
+	public String get(int index) { // O(block size)
+		checkIndex(index);
+		Cursor cursor = new Cursor();
+		cursor.moveTo(index);
+		return cursor.string();
+	}
+
+	/***
+	 * Method to find the first position of a string
+	 * @param item which contains the string to find
+	 * @return index of the first equal string, or -1 if the list does not contain it
+	 */
+	public int indexOf(Object item) { // O(log(n / block size) + block size)
+		if (!(item instanceof String)) {
+			return -1;
+		}
+		String key = (String) item;
+		Cursor cursor = new Cursor();
+		int index = firstIndex(cursor, string -> string.compareTo(key) >= 0);
+		return (index < size && cursor.string().equals(key)) ? index : -1;
+	}
+
+	/***
+	 * Method to check if the list contains a string
+	 * @param item which contains the string to find
+	 * @return true if the list contains it
+	 */
+	public boolean contains(Object item) { // O(log(n / block size) + block size)
+		return indexOf(item) >= 0;
+	}
+
+	/***
+	 * Method to find the strings which start with a prefix, they sit next to each other in a sorted list
+	 * @param prefix which contains the prefix, the empty prefix matches every string
+	 * @return array with the index of the first match and the index after the last match, both equal when nothing matches
+	 */
+	public int[] prefixRange(String prefix) { // O(log(n / block size) + block size)
+		Cursor cursor = new Cursor();
+		int from = firstIndex(cursor, string -> string.compareTo(prefix) >= 0);
+		int to = firstIndex(cursor, string -> string.compareTo(prefix) > 0 && !string.startsWith(prefix));
+		return new int[] {from, to};
+	}
+
+	/***
+	 * Method to find the first index whose string satisfies a predicate which is false for a prefix of the list
+	 * and true for the rest, the cursor is left on that string when there is one
+	 * @param cursor which is used to decode the strings
+	 * @param after which contains the predicate
+	 * @return the first index, or size if the predicate is false for every string
+	 */
+	private int firstIndex(Cursor cursor, Predicate<String> after) { // O(log(n / block size) + block size)
+		int blocks = (size + blockSize - 1) / blockSize;
+		// finds the last block whose first string is before the point
+		int low = 0;
+		int high = blocks - 1;
+		int block = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			cursor.moveTo(mid * blockSize);
+			if (after.test(cursor.string())) {
+				high = mid - 1;
+			} else {
+				block = mid;
+				low = mid + 1;
+			}
+		}
+		if (block < 0) {
+			if (size > 0) cursor.moveTo(0);
+			return 0;
+		}
+		int end = Math.min(size, (block + 1) * blockSize);
+		for (int index = block * blockSize + 1; index < end; index++) {
+			cursor.moveTo(index);
+			if (after.test(cursor.string())) {
+				return index;
+			}
+		}
+		if (end < size) cursor.moveTo(end);
+		return end;
+	}
+
+	/***
+	 * Method to return the number of bytes used by the encoded data and the block offsets, including array headers
+	 * no parameters
+	 * @return bytes used by the list
+	 */
+	public long memoryBytes() { // O(1)
+		return 16 + data.length + 16 + 4L * blockOffsets.length;
+	}
+
+	/***
+	 * Method to estimate the bytes the same strings would use in an ArrayList<String> with a full backing array,
+	 * assuming compact strings and 4 byte references
+	 * no parameters
+	 * @return estimated bytes of the uncompressed list
+	 */
+	public long uncompressedBytes() { // O(total length)
+		long bytes = 16 + 4L * size;
+		ListIterator<String> it = listIterator();
+		while (it.hasNext()) {
+			String string = it.next();
+			boolean latin1 = true;
+			for (int i = 0; i < string.length() && latin1; i++) {
+				latin1 = string.charAt(i) <= 0xFF;
+			}
+			long chars = latin1 ? string.length() : 2L * string.length();
+			bytes += 24 + ((16 + chars + 7) & ~7L); // String object plus its byte array
+		}
+		return bytes;
+	}
+
+	/***
+	 * Method to compare the memory of the list with the same strings in an ArrayList<String>
+	 * no parameters
+	 * @return one line report
+	 */
+	public String memoryReport() { // O(total length)
+		long compressed = memoryBytes();
+		long uncompressed = uncompressedBytes();
+		return String.format("%d strings: %d bytes front coded (%.1f per string), about %d bytes as ArrayList<String> (%.1f per string), %.1fx smaller",
+				size, compressed, (double) compressed / Math.max(size, 1), uncompressed,
+				(double) uncompressed / Math.max(size, 1), (double) uncompressed / compressed);
+	}
+
+	/***
+	 * Method to shrink the arrays to the data they hold
+	 * no parameters
+	 * no return value
+	 */
+	public void trimToSize() { // O(n)
+		data = Arrays.copyOf(data, dataLength);
+		blockOffsets = Arrays.copyOf(blockOffsets, (size + blockSize - 1) / blockSize);
+	}
+
+	private void ensureData(int extra) {
+		if (dataLength + extra > data.length) {
+			data = Arrays.copyOf(data, Math.max(dataLength + extra, data.length + (data.length >> 1)));
+		}
+	}
+
+	private void putVarint(int value) {
+		while ((value & ~0x7F) != 0) {
+			data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data[dataLength++] = (byte) value;
+	}
+
+	private void putBytes(byte[] bytes, int offset, int length) {
+		System.arraycopy(bytes, offset, data, dataLength, length);
+		dataLength += length;
+	}
+
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		return ListWriter.render(this, size == 0 ? null : get(0));
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return size;
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return FrontCodedIterator
+	 */
+	public ListIterator<String> listIterator() { // O(1)
+		return new FrontCodedIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return FrontCodedIterator
+	 */
+	public ListIterator<String> listIterator(int index) { // O(1)
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new FrontCodedIterator(index);
+	}
+
+	// Inner class which decodes the strings one after the other into a reusable byte buffer
+	private class Cursor {
+		// data members
+		private int index = -1; // index of the decoded string
+		private int position = 0; // offset of the next entry in data
+		private byte[] bytes = new byte[Math.max(maxLength, 16)];
+		private int length;
+
+		// decodes forward to the string at target, going back to the start of its block when needed
+		void moveTo(int target) {
+			if (target < index || (target / blockSize != index / blockSize && target != index + 1) || index < 0) {
+				int block = target / blockSize;
+				index = block * blockSize - 1;
+				position = blockOffsets[block];
+			}
+			while (index < target) {
+				advance();
+			}
+		}
+
+		private void advance() {
+			index++;
+			int shared = (index % blockSize == 0) ? 0 : readVarint();
+			int suffix = readVarint();
+			if (shared + suffix > bytes.length) {
+				bytes = Arrays.copyOf(bytes, shared + suffix);
+			}
+			System.arraycopy(data, position, bytes, shared, suffix);
+			position += suffix;
+			length = shared + suffix;
+		}
+
+		private int readVarint() {
+			int value = 0;
+			for (int shift = 0; ; shift += 7) {
+				byte b = data[position++];
+				value |= (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+		}
+
+		String string() {
+			return new String(bytes, 0, length, StandardCharsets.UTF_8);
+		}
+	}
+
+	// Inner list iterator class which decodes forward through the blocks
+	private class FrontCodedIterator implements ListIterator<String> {
+		// data members
+		private final Cursor cursor = new Cursor();
+		private int index;
+
+		private FrontCodedIterator(int index) {
+			this.index = index;
+		}
+
+		public boolean hasNext() { // O(1)
+			return index < size;
+		}
+
+		public String next() { // O(1) amortized going forward
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			cursor.moveTo(index++);
+			return cursor.string();
+		}
+
+		public boolean hasPrevious() { // O(1)
+			return index > 0;
+		}
+
+		public String previous() { // O(block size)
+			if (index <= 0) {
+				throw new NoSuchElementException();
+			}
+			cursor.moveTo(--index);
+			return cursor.string();
+		}
+
+		public int nextIndex() { // O(1)
+			return index;
+		}
+
+		public int previousIndex() { // O(1)
+			return index - 1;
+		}
+
+		public void set(String e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(String e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
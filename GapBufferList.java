@@ -0,0 +1,364 @@
+/***
+ * Class to model the class GapBufferList which is a generic class and implements the interface List<E>
+ * Keeps a movable gap of free slots at the last edit position, so inserts and removes
+ * near the previous one only move the elements between the two positions
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to use the bulk array methods
+import java.util.ConcurrentModificationException; // to detect changes behind an iterator's back
+import java.util.Iterator; // to use the iterator
+import java.util.ListIterator; // to use the list iterator
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class GapBufferList<E> implements List<E>{
+	// data members, the elements are buffer[0, gapStart) followed by buffer[gapEnd, buffer.length)
+	private E[] buffer;
+	private int gapStart;
+	private int gapEnd;
+	private int modCount;
+
+	/***
+	 * Default constructor
+	 * No parameters
+	 * Initializes buffer to a default size of 10
+	 */
+	public GapBufferList() {
+		this(10);
+	}
+
+	/***
+	 * Constructor for GapBufferList class
+	 * @param capacity which contains the capacity the list should have
+	 * The whole buffer starts out as the gap
+	 */
+	public GapBufferList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		buffer = newArray(capacity);
+		gapStart = 0;
+		gapEnd = capacity;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return call to method add which takes paramaters size and item
+	 */
+	public boolean add(E item) { // O(1) amortized once the gap is at the end
+		return add(size(), item);
+	}
+
+	/***
+	 * Method to add an item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, E item) { // O(distance from the last edit)
+		if (index > size() || index < 0) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		moveGap(index);
+		if (gapStart == gapEnd) {
+			grow(buffer.length + 1);
+		}
+		buffer[gapStart++] = item;
+		modCount++;
+		return true;
+	}
+
+	/***
+	 * Method to get an item at the specific index
+	 * @param index from where item has to be retrieved
+	 * @return element at that particular index
+	 */
+	public E get(int index) { // O(1)
+		checkIndex(index);
+		return buffer[slot(index)];
+	}
+
+	/***
+	 * Method to set an item at the specific index
+	 * @param index from where item has to be set
+	 * @param item which contains the item that has to be set at the specific index
+	 * @return element that used to be at that particular index
+	 */
+	public E set(int index, E item) { // O(1)
+		checkIndex(index);
+		int slot = slot(index);
+		E oldItem = buffer[slot];
+		buffer[slot] = item;
+		return oldItem;
+	}
+
+	/***
+	 * Method to remove the item at index from the list
+	 * @param index from where the item has to be removed
+	 * @return item which has been removed
+	 */
+	public E remove(int index) { // O(distance from the last edit)
+		checkIndex(index);
+		moveGap(index);
+		E item = buffer[gapEnd];
+		buffer[gapEnd++] = null; // lets the removed item be garbage collected
+		modCount++;
+		return item;
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return buffer.length - (gapEnd - gapStart);
+	}
+
+	/***
+	 * Method to clear list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(n)
+		Arrays.fill(buffer, null);
+		gapStart = 0;
+		gapEnd = buffer.length;
+		modCount++;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return size() == 0;
+	}
+
+	/***
+	 * Method to return the index the gap is at, which is where the last edit happened
+	 * no parameters
+	 * @return index of the gap
+	 */
+	public int gapPosition() { // O(1)
+		return gapStart;
+	}
+
+	/***
+	 * Method to trim the buffer to the accurate size, the gap ends up empty at the end
+	 * no parameters
+	 * no return value
+	 */
+	public void trimToSize() { // O(n)
+		int size = size();
+		if (size != buffer.length) {
+			E[] newBuffer = newArray(size);
+			System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+			System.arraycopy(buffer, gapEnd, newBuffer, gapStart, buffer.length - gapEnd);
+			buffer = newBuffer;
+			gapStart = gapEnd = size;
+			modCount++;
+		}
+	}
+
+	/***
+	 * Method to move the gap so it starts at index, copying only the elements in between
+	 * @param index which contains the new start of the gap
+	 * no return value
+	 */
+	private void moveGap(int index) { // O(|index - gapStart|)
+		if (index == gapStart) {
+			return;
+		}
+		int gapLength = gapEnd - gapStart;
+		if (index < gapStart) {
+			int count = gapStart - index;
+			System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+			Arrays.fill(buffer, index, Math.min(gapStart, index + gapLength), null);
+		} else {
+			int count = index - gapStart;
+			System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+			Arrays.fill(buffer, Math.max(gapEnd, index), gapEnd + count, null);
+		}
+		gapStart = index;
+		gapEnd = index + gapLength;
+	}
+
+	/***
+	 * Method to replace buffer with a bigger array, keeping the gap where it is
+	 * @param minCapacity which contains the number of items the list must be able to hold
+	 * no return value
+	 */
+	private void grow(int minCapacity) { // O(n)
+		int newCap = Math.max(minCapacity, Math.max(10, buffer.length + (buffer.length >> 1)));
+		E[] newBuffer = newArray(newCap);
+		int tail = buffer.length - gapEnd;
+		System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+		System.arraycopy(buffer, gapEnd, newBuffer, newCap - tail, tail);
+		buffer = newBuffer;
+		gapEnd = newCap - tail;
+	}
+
+	@SuppressWarnings("unchecked") // the array only ever holds elements of type E
+	private E[] newArray(int length) {
+		return (E[]) new Object[length];
+	}
+
+	private int slot(int index) {
+		return index < gapStart ? index : index + (gapEnd - gapStart);
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * no return value
+	 */
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size())
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size() - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		StringBuilder output = new StringBuilder("[");
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (i > 0) output.append(", ");
+			output.append(buffer[slot(i)]);
+		}
+		return output.append("]").toString();
+	}
+
+	/***
+	 * Method to generate an iterator for the list
+	 * no parameters
+	 * @return GapBufferListIterator
+	 */
+	public Iterator<E> iterator() {
+		return new GapBufferListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return GapBufferListIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new GapBufferListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return GapBufferListIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		if (index < 0 || index > size()) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new GapBufferListIterator(index);
+	}
+
+	// Inner list iterator class, add and remove edit the list at the gap
+	private class GapBufferListIterator implements ListIterator<E> {
+		// data members
+		private int cursor; // index of the element returned by the next call to next()
+		private int lastReturned = -1; // index of the element returned by the last next() or previous()
+		private int expectedModCount = modCount;
+
+		private GapBufferListIterator(int index) {
+			cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < size();
+		}
+
+		public E next() {
+			checkForChanges();
+			if (cursor >= size()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			return buffer[slot(cursor++)];
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public E previous() {
+			checkForChanges();
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --cursor;
+			return buffer[slot(cursor)];
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		/***
+		 * Method to replace the element last returned by next or previous
+		 * @param e which contains the new element
+		 * no return value
+		 */
+		public void set(E e) {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			checkForChanges();
+			GapBufferList.this.set(lastReturned, e);
+		}
+
+		/***
+		 * Method to insert an element before the cursor, which moves the gap to the cursor
+		 * @param e which contains the element that needs to be added
+		 * no return value
+		 */
+		public void add(E e) { // O(1) when the cursor is at the gap
+			checkForChanges();
+			GapBufferList.this.add(cursor++, e);
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		/***
+		 * Method to remove the element last returned by next or previous
+		 * no parameters
+		 * no return value
+		 */
+		public void remove() { // O(1) when the element is next to the gap
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			checkForChanges();
+			GapBufferList.this.remove(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		private void checkForChanges() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+}
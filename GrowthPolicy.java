@@ -0,0 +1,149 @@
+/***
+ * Class to model the interface GrowthPolicy which decides the capacity of the backing array of an ArrayList
+ * grow is asked for a new capacity when the array is full, shrink is asked after elements are removed
+ * and may return a smaller capacity, the built in policies never shrink unless wrapped with shrinking
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public interface GrowthPolicy{
+
+    // largest array length the JVM reliably allocates
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /***
+     * Method to choose the capacity of a bigger array
+     * @param capacity which contains the current capacity
+     * @param minCapacity which contains the number of items the array must be able to hold, more than capacity
+     * @return the new capacity, at least minCapacity
+     */
+    public abstract int grow(int capacity, int minCapacity);
+
+    /***
+     * Method to choose the capacity after items were removed
+     * @param capacity which contains the current capacity
+     * @param size which contains the number of items left
+     * @return the new capacity, at least size, or capacity to keep the array
+     */
+    public default int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+    // policy the ArrayList uses unless it is given another one
+    public static final GrowthPolicy DEFAULT = geometric(1.5);
+
+    /***
+     * Method to create a policy which multiplies the capacity by a factor, always growing by at least one slot
+     * so small capacities such as 0 and 1 grow as well
+     * @param factor which contains the growth factor, more than 1
+     * @return the policy
+     */
+    public static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Growth factor must be more than 1: " + factor);
+        }
+        return new GrowthPolicy() {
+            public int grow(int capacity, int minCapacity) {
+                long grown = Math.max((long) (capacity * factor), capacity + 1L);
+                return clamp(Math.max(grown, minCapacity), minCapacity);
+            }
+
+            public String toString() {
+                return "geometric(" + factor + ")";
+            }
+        };
+    }
+
+    /***
+     * Method to create a policy which doubles the capacity until it reaches a cap and then adds a fixed increment,
+     * which bounds the slack of very large lists at the price of more copies
+     * @param cap which contains the capacity up to which the array is doubled
+     * @param increment which contains the number of slots added each time after the cap
+     * @return the policy
+     */
+    public static GrowthPolicy doublingThenLinear(int cap, int increment) {
+        if (cap <= 0 || increment <= 0) {
+            throw new IllegalArgumentException("Cap and increment must be positive: " + cap + ", " + increment);
+        }
+        return new GrowthPolicy() {
+            public int grow(int capacity, int minCapacity) {
+                long grown = capacity < cap ? Math.min(Math.max(2L * capacity, 1), cap) : (long) capacity + increment;
+                return clamp(Math.max(grown, minCapacity), minCapacity);
+            }
+
+            public String toString() {
+                return "doublingThenLinear(" + cap + ", " + increment + ")";
+            }
+        };
+    }
+
+    /***
+     * Method to create a policy for a list whose final size is known roughly in advance: the first growth
+     * goes straight to the hint, growth past the hint falls back to the default policy
+     * @param hint which contains the expected number of items
+     * @return the policy
+     */
+    public static GrowthPolicy exact(int hint) {
+        if (hint < 0) {
+            throw new IllegalArgumentException("Hint must not be negative: " + hint);
+        }
+        return new GrowthPolicy() {
+            public int grow(int capacity, int minCapacity) {
+                if (capacity < hint) {
+                    return Math.max(hint, minCapacity);
+                }
+                return DEFAULT.grow(capacity, minCapacity);
+            }
+
+            public String toString() {
+                return "exact(" + hint + ")";
+            }
+        };
+    }
+
+    /***
+     * Method to add shrinking to a policy: once the list is less than a quarter full the array is cut to twice
+     * the size, so it is half full again and has to lose half its items or double before it is resized again,
+     * which keeps alternating adds and removes from resizing every time
+     * @param growth which contains the policy used to grow
+     * @param minCapacity which contains the capacity the array is never shrunk below
+     * @return the policy
+     */
+    public static GrowthPolicy shrinking(GrowthPolicy growth, int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Minimum capacity must not be negative: " + minCapacity);
+        }
+        return new GrowthPolicy() {
+            public int grow(int capacity, int min) {
+                return growth.grow(capacity, min);
+            }
+
+            public int shrink(int capacity, int size) {
+                if (capacity <= minCapacity || size >= capacity / 4) {
+                    return capacity;
+                }
+                return Math.max(minCapacity, 2 * size);
+            }
+
+            public String toString() {
+                return "shrinking(" + growth + ", " + minCapacity + ")";
+            }
+        };
+    }
+
+    /***
+     * Method to limit a computed capacity to the largest array length
+     * @param capacity which contains the computed capacity
+     * @param minCapacity which contains the number of items the array must be able to hold
+     * @return the capacity as an int
+     */
+    private static int clamp(long capacity, int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+        }
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
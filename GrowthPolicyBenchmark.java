@@ -0,0 +1,72 @@
+/***
+ * Class to benchmark the ArrayList growth policies
+ * Appends to an empty list with each policy and prints the wasted capacity left behind, then drains a large
+ * list down to a few items with and without shrinking
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public class GrowthPolicyBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 10000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {10_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		Integer item = 42;
+		for (int size : sizes) {
+			String params = "Integer/" + size;
+			GrowthPolicy[] policies = {
+					GrowthPolicy.geometric(1.5),
+					GrowthPolicy.geometric(2),
+					GrowthPolicy.doublingThenLinear(1 << 16, 1 << 14),
+					GrowthPolicy.exact(size)};
+
+			ListBenchmark.printHeader();
+			for (GrowthPolicy policy : policies) {
+				ListBenchmark.run("append." + policy, params, () -> new ArrayList<Integer>(0, policy), list -> {
+					for (int i = 0; i < size; i++) list.add(item);
+					return size;
+				});
+			}
+			for (GrowthPolicy policy : policies) {
+				ArrayList<Integer> list = new ArrayList<>(0, policy);
+				for (int i = 0; i < size; i++) list.add(item);
+				System.out.println("  " + list.capacityReport());
+			}
+
+			// drains to 1% and then alternates a remove and an add at the boundary where shrinking would thrash without hysteresis
+			GrowthPolicy[] drains = {GrowthPolicy.DEFAULT, GrowthPolicy.shrinking(GrowthPolicy.DEFAULT, 16)};
+			for (GrowthPolicy policy : drains) {
+				ListBenchmark.run("drain." + policy, params, () -> {
+					ArrayList<Integer> list = new ArrayList<>(0, policy);
+					for (int i = 0; i < size; i++) list.add(item);
+					return list;
+				}, list -> {
+					while (list.size() > size / 100) list.remove(list.size() - 1);
+					for (int i = 0; i < size; i++) {
+						list.remove(list.size() - 1);
+						list.add(item);
+					}
+					ListBenchmark.consume(list.capacity());
+					return size;
+				});
+			}
+			for (GrowthPolicy policy : drains) {
+				ArrayList<Integer> list = new ArrayList<>(0, policy);
+				for (int i = 0; i < size; i++) list.add(item);
+				while (list.size() > size / 100) list.remove(list.size() - 1);
+				System.out.println("  " + list.capacityReport());
+			}
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/***
+ * Class to model the class HashIndex which maps the elements of an ArrayList to their positions
+ * Open addressing with linear probing, one entry per distinct element, which keeps the smallest position of the
+ * element and a sorted array of its other positions, so duplicates do not make the probe sequences longer
+ * Only the positions and cached hashes are stored, equality is checked against the list's array
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to clear the tables and search the duplicates
+import java.util.Objects; // to compare elements which may be null
+
+class HashIndex {
+	// data members
+	private int[] firsts; // smallest position + 1 of the element in the entry, 0 for an empty entry
+	private int[] hashes; // cached hash of the element in the entry
+	private int[][] duplicates; // other positions in ascending order after their count in slot 0, null if none
+	private int shift; // 32 - log2(capacity), used to turn a hash into a home entry
+	private int count;
+	private long duplicateBytes; // bytes used by the arrays of duplicates
+
+	/***
+	 * Constructor for HashIndex class
+	 * @param expected which contains the number of elements the index should hold without growing
+	 */
+	HashIndex(int expected) {
+		allocate(capacityFor(expected));
+	}
+
+	/***
+	 * Method to add the position of an element, the element must already be at that position in elements
+	 * @param item which contains the element
+	 * @param position which contains the position of the element in the list
+	 * @param elements which contains the array of the list, to find the entry of an equal element
+	 * no return value
+	 */
+	void add(Object item, int position, Object[] elements) { // O(1) expected, O(duplicates) in the middle
+		if (2 * (count + 1) > firsts.length) {
+			rehash(firsts.length * 2);
+		}
+		int h = hash(item);
+		int i = slotOf(item, h, elements);
+		if (firsts[i] == 0) {
+			firsts[i] = position + 1;
+			hashes[i] = h;
+			count++;
+		} else if (position < firsts[i] - 1) {
+			insertDuplicate(i, firsts[i] - 1);
+			firsts[i] = position + 1;
+		} else {
+			insertDuplicate(i, position);
+		}
+	}
+
+	/***
+	 * Method to remove the position of an element, the entry is found by position so the element may
+	 * already be overwritten in the list's array
+	 * @param item which contains the element
+	 * @param position which contains the position of the element in the list
+	 * no return value
+	 */
+	void remove(Object item, int position) { // O(1) expected, O(duplicates) in the middle
+		int mask = firsts.length - 1;
+		int h = hash(item);
+		int i = home(h);
+		int found;
+		while ((found = duplicateSlot(i, h, position)) < 0) {
+			if (firsts[i] == 0) {
+				throw new IllegalStateException("HashIndex has no entry for position " + position);
+			}
+			i = (i + 1) & mask;
+		}
+		int[] others = duplicates[i];
+		if (found > 0) {
+			removeDuplicate(i, found);
+		} else if (others != null) {
+			firsts[i] = others[1] + 1; // the next smallest position takes over the entry
+			removeDuplicate(i, 1);
+		} else {
+			delete(i);
+		}
+	}
+
+	/***
+	 * Method to find the first position of an element
+	 * @param item which needs to be found
+	 * @param elements which contains the array of the list, to compare the candidates
+	 * @return smallest position of the element, or -1 if it is not in the list
+	 */
+	int indexOf(Object item, Object[] elements) { // O(1) expected
+		return firsts[slotOf(item, hash(item), elements)] - 1;
+	}
+
+	/***
+	 * Method to move the positions at or after from, after elements were inserted or removed
+	 * @param from which contains the first position that moved
+	 * @param delta which contains how far the positions moved
+	 * no return value
+	 */
+	void shift(int from, int delta) { // O(capacity + moved duplicates)
+		int stored = from + 1;
+		for (int i = 0; i < firsts.length; i++) {
+			if (firsts[i] != 0) {
+				if (firsts[i] >= stored) {
+					firsts[i] += delta;
+				}
+				int[] others = duplicates[i];
+				if (others != null) {
+					// the positions are sorted, so only the tail of the array moves
+					for (int k = others[0]; k > 0 && others[k] >= from; k--) {
+						others[k] += delta;
+					}
+				}
+			}
+		}
+	}
+
+	/***
+	 * Method to remove every entry
+	 * no parameters
+	 * no return value
+	 */
+	void clear() {
+		Arrays.fill(firsts, 0);
+		Arrays.fill(duplicates, null);
+		count = 0;
+		duplicateBytes = 0;
+	}
+
+	/***
+	 * Method to return the number of bytes used by the index
+	 * no parameters
+	 * @return bytes used by the tables and the arrays of duplicates including their array headers
+	 */
+	long memoryBytes() {
+		return 3L * (16 + 4L * firsts.length) + duplicateBytes;
+	}
+
+	/***
+	 * Method to find the entry of an element
+	 * @param item which needs to be found
+	 * @param h which contains the hash of the element
+	 * @param elements which contains the array of the list, to compare the candidates
+	 * @return the entry of the element, or the empty entry where it would go
+	 */
+	private int slotOf(Object item, int h, Object[] elements) { // O(1) expected
+		int mask = firsts.length - 1;
+		int i = home(h);
+		while (firsts[i] != 0 && (hashes[i] != h || !Objects.equals(item, elements[firsts[i] - 1]))) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	/***
+	 * Method to check if an entry holds a position
+	 * @param i which contains the entry
+	 * @param h which contains the hash of the element
+	 * @param position which contains the position of the element
+	 * @return 0 if it is the smallest position, its slot in the duplicates if it is another one, -1 otherwise
+	 */
+	private int duplicateSlot(int i, int h, int position) {
+		if (firsts[i] == 0 || hashes[i] != h || position < firsts[i] - 1) {
+			return -1;
+		}
+		if (firsts[i] - 1 == position) {
+			return 0;
+		}
+		int[] others = duplicates[i];
+		int slot = others == null ? -1 : Arrays.binarySearch(others, 1, others[0] + 1, position);
+		return slot > 0 ? slot : -1;
+	}
+
+	private void insertDuplicate(int i, int position) { // O(1) amortized at the end, O(duplicates) otherwise
+		int[] others = duplicates[i];
+		if (others == null) {
+			others = new int[4];
+			duplicateBytes += 16 + 4L * others.length;
+		} else if (others[0] + 1 == others.length) {
+			duplicateBytes += 4L * others.length;
+			others = Arrays.copyOf(others, 2 * others.length);
+		}
+		int size = others[0];
+		int slot = size == 0 || others[size] < position ? size + 1
+				: -Arrays.binarySearch(others, 1, size + 1, position) - 1;
+		System.arraycopy(others, slot, others, slot + 1, size + 1 - slot);
+		others[slot] = position;
+		others[0] = size + 1;
+		duplicates[i] = others;
+	}
+
+	private void removeDuplicate(int i, int slot) { // O(duplicates after slot)
+		int[] others = duplicates[i];
+		int size = others[0];
+		if (size == 1) {
+			duplicates[i] = null;
+			duplicateBytes -= 16 + 4L * others.length;
+			return;
+		}
+		System.arraycopy(others, slot + 1, others, slot, size - slot);
+		others[0] = size - 1;
+	}
+
+	// shifts the following entries of the cluster back so no tombstone is needed
+	private void delete(int i) {
+		int mask = firsts.length - 1;
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (firsts[j] == 0) {
+				break;
+			}
+			int k = home(hashes[j]);
+			boolean staysPut = (i <= j) ? (i < k && k <= j) : (i < k || k <= j);
+			if (!staysPut) {
+				firsts[i] = firsts[j];
+				hashes[i] = hashes[j];
+				duplicates[i] = duplicates[j];
+				i = j;
+			}
+		}
+		firsts[i] = 0;
+		duplicates[i] = null;
+		count--;
+	}
+
+	private void rehash(int capacity) {
+		int[] oldFirsts = firsts;
+		int[] oldHashes = hashes;
+		int[][] oldDuplicates = duplicates;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldFirsts.length; i++) {
+			if (oldFirsts[i] != 0) {
+				int j = home(oldHashes[i]);
+				while (firsts[j] != 0) {
+					j = (j + 1) & mask;
+				}
+				firsts[j] = oldFirsts[i];
+				hashes[j] = oldHashes[i];
+				duplicates[j] = oldDuplicates[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		firsts = new int[capacity];
+		hashes = new int[capacity];
+		duplicates = new int[capacity][];
+		shift = 32 - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private int home(int h) {
+		return (h * 0x9E3779B9) >>> shift; // fibonacci hashing spreads poor hash codes
+	}
+
+	private static int hash(Object item) {
+		return item == null ? 0 : item.hashCode();
+	}
+
+	private static int capacityFor(int expected) {
+		int capacity = 16;
+		while (capacity < 2L * expected && capacity < (1 << 30)) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+}
@@ -0,0 +1,118 @@
+/***
+ * Class to model the class LatencyHistogram which records latencies in nanoseconds with bounded relative error
+ * Works like an HDR histogram: values below 256 get a bucket each, above that every power of two is split into
+ * 128 buckets, so any value is reported within 1% using a fixed array of counts whatever the range
+ * A histogram is not thread safe, every thread records into its own and they are merged with add
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // buckets per power of two
+	private static final int EXACT = 2 * SUB_BUCKETS; // values below this are counted exactly
+	private static final int BUCKETS = EXACT + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	// Data members
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/***
+	 * Method to record one latency
+	 * @param nanos which contains the latency, negative values are recorded as 0
+	 * no return value
+	 */
+	public void record(long nanos) { // O(1)
+		long value = Math.max(nanos, 0);
+		counts[bucketOf(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/***
+	 * Method to add the values recorded by another histogram to this one
+	 * @param other which contains the histogram to merge
+	 * no return value
+	 */
+	public void add(LatencyHistogram other) { // O(buckets)
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/***
+	 * Method to return the value below which a percentage of the recorded values fall
+	 * @param percentile which contains the percentage, between 0 and 100
+	 * @return the highest value of the bucket holding the percentile, at most the largest recorded value
+	 */
+	public long valueAtPercentile(double percentile) { // O(buckets)
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= target) {
+				return Math.min(highestValueOf(i), max);
+			}
+		}
+		return max;
+	}
+
+	public long count() {
+		return count;
+	}
+
+	public long min() {
+		return count == 0 ? 0 : min;
+	}
+
+	public long max() {
+		return max;
+	}
+
+	public double mean() {
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	/***
+	 * Method to find the bucket of a value
+	 * @param value which contains a value of at least 0
+	 * @return index of the bucket
+	 */
+	private static int bucketOf(long value) { // O(1)
+		if (value < EXACT) {
+			return (int) value;
+		}
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	/***
+	 * Method to find the highest value which falls in a bucket
+	 * @param bucket which contains the index of the bucket
+	 * @return highest value of the bucket
+	 */
+	private static long highestValueOf(int bucket) { // O(1)
+		if (bucket < EXACT) {
+			return bucket;
+		}
+		int shift = (bucket - EXACT) / SUB_BUCKETS + 1;
+		long lowest = (long) ((bucket - EXACT) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,229 @@
+/***
+ * Class to model the class LineLoader which streams the lines of a file into any List<E>
+ * Reads the file through mapped buffers, splits lines on the newline byte without regex,
+ * presizes the target list from the file length and adds the parsed lines in batches
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.IOException; // to use the io exception class
+import java.nio.MappedByteBuffer; // to read the file without copying it to the heap first
+import java.nio.channels.FileChannel; // to open and map the file
+import java.nio.charset.StandardCharsets; // to decode the lines as UTF-8
+import java.nio.file.Path; // to name the file
+import java.nio.file.StandardOpenOption; // to open the file for reading
+import java.util.Arrays; // to grow the line buffer
+
+public class LineLoader<E> {
+
+	// the file is mapped in windows of this many bytes
+	private static final int WINDOW_SIZE = 1 << 28; // 256 MB
+	// number of bytes looked at to estimate the number of lines
+	private static final int SAMPLE_SIZE = 1 << 16;
+	private static final int DEFAULT_BATCH_SIZE = 1024;
+
+	// data members
+	private final LineParser<E> parser;
+	private final int batchSize;
+
+	/***
+	 * Interface which turns one line of the file into an element
+	 */
+	public interface LineParser<E> {
+		public abstract E parse(String line);
+	}
+
+	/***
+	 * Constructor for LineLoader class
+	 * @param parser which turns every line into an element
+	 * Initialises the batch size to a default of 1024
+	 */
+	public LineLoader(LineParser<E> parser) {
+		this(parser, DEFAULT_BATCH_SIZE);
+	}
+
+	/***
+	 * Constructor for LineLoader class
+	 * @param parser which turns every line into an element
+	 * @param batchSize which contains the number of elements added to the list at once
+	 */
+	public LineLoader(LineParser<E> parser, int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		}
+		this.parser = parser;
+		this.batchSize = batchSize;
+	}
+
+	/***
+	 * Method to create a loader which adds every line as it is
+	 * no parameters
+	 * @return the string loader
+	 */
+	public static LineLoader<String> strings() {
+		return new LineLoader<>(line -> line);
+	}
+
+	/***
+	 * Method to read a file and add one parsed element per line to the list
+	 * @param file which needs to be read
+	 * @param list where the elements need to be added
+	 * @return statistics about the load
+	 */
+	public Stats load(Path file, List<E> list) throws IOException { // O(n)
+		long start = System.nanoTime();
+		long lines = 0;
+		long fileSize;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			fileSize = channel.size();
+			Batch batch = new Batch(list);
+			byte[] line = new byte[256];
+			int lineLength = 0;
+			long position = 0;
+			while (position < fileSize) {
+				int windowLength = (int) Math.min(WINDOW_SIZE, fileSize - position);
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowLength);
+				if (position == 0) {
+					presize(list, estimateLines(window, windowLength, fileSize));
+				}
+				int lineStart = 0;
+				for (int i = 0; i < windowLength; i++) {
+					if (window.get(i) != '\n') {
+						continue;
+					}
+					// copies the bytes of the line, which may have started in the previous window
+					int length = i - lineStart;
+					if (lineLength + length > line.length) {
+						line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+					}
+					window.get(lineStart, line, lineLength, length);
+					batch.add(parse(line, lineLength + length));
+					lines++;
+					lineLength = 0;
+					lineStart = i + 1;
+				}
+				// keeps the unfinished last line of the window
+				int rest = windowLength - lineStart;
+				if (lineLength + rest > line.length) {
+					line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + rest));
+				}
+				window.get(lineStart, line, lineLength, rest);
+				lineLength += rest;
+				position += windowLength;
+			}
+			if (lineLength > 0) { // last line without a newline
+				batch.add(parse(line, lineLength));
+				lines++;
+			}
+			batch.flush();
+		}
+		return new Stats(fileSize, lines, System.nanoTime() - start);
+	}
+
+	/***
+	 * Method to decode the bytes of a line and parse it, a trailing carriage return is dropped
+	 * @param line which contains the bytes of the line
+	 * @param length which contains the number of bytes in the line
+	 * @return the parsed element
+	 */
+	private E parse(byte[] line, int length) {
+		if (length > 0 && line[length - 1] == '\r') {
+			length--;
+		}
+		return parser.parse(new String(line, 0, length, StandardCharsets.UTF_8));
+	}
+
+	/***
+	 * Method to estimate the number of lines of the file from the first bytes
+	 * @param window which contains the first window of the file
+	 * @param windowLength which contains the length of the window
+	 * @param fileSize which contains the length of the file
+	 * @return estimated number of lines
+	 */
+	private static long estimateLines(MappedByteBuffer window, int windowLength, long fileSize) {
+		int sample = Math.min(SAMPLE_SIZE, windowLength);
+		int newlines = 0;
+		for (int i = 0; i < sample; i++) {
+			if (window.get(i) == '\n') newlines++;
+		}
+		if (sample == fileSize) {
+			return newlines + 1;
+		}
+		return fileSize * Math.max(newlines, 1) / sample + 1;
+	}
+
+	/***
+	 * Method to allocate room for the lines at once when the list supports it
+	 * @param list where the elements will be added
+	 * @param lines which contains the estimated number of lines
+	 * no return value
+	 */
+	private static void presize(List<?> list, long lines) {
+		if (list instanceof ArrayList) {
+			ArrayList<?> arrayList = (ArrayList<?>) list;
+			arrayList.ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8, arrayList.size() + lines));
+		}
+	}
+
+	// Inner class which collects parsed elements and adds them to the list in batches
+	private class Batch {
+		// data members
+		private final List<E> list;
+		private final java.util.List<E> items = new java.util.ArrayList<>(batchSize);
+
+		Batch(List<E> list) {
+			this.list = list;
+		}
+
+		void add(E item) {
+			items.add(item);
+			if (items.size() == batchSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (items.isEmpty()) {
+				return;
+			}
+			if (list instanceof ArrayList) {
+				((ArrayList<E>) list).addAll(items);
+			} else {
+				for (E item : items) {
+					list.add(item);
+				}
+			}
+			items.clear();
+		}
+	}
+
+	// Inner class with the statistics of one load
+	public static class Stats {
+		// data members
+		public final long bytes;
+		public final long lines;
+		public final long nanos;
+
+		Stats(long bytes, long lines, long nanos) {
+			this.bytes = bytes;
+			this.lines = lines;
+			this.nanos = Math.max(nanos, 1);
+		}
+
+		public double bytesPerSecond() {
+			return bytes * 1e9 / nanos;
+		}
+
+		public double linesPerSecond() {
+			return lines * 1e9 / nanos;
+		}
+
+		public String toString() {
+			return String.format("%d lines, %d bytes in %.3f ms (%.1f MB/s, %.0f lines/s)",
+					lines, bytes, nanos / 1e6, bytesPerSecond() / (1024 * 1024), linesPerSecond());
+		}
+	}
+}
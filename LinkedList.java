@@ -3,19 +3,31 @@
  * @author Udita Agarwal
  * @version 0.1
  * Date of creation: November 4th, 2021
- * Last Date Modified: November 11th, 2021
+ * Last Date Modified: October 17th, 2026
  */
 
  
+import java.io.IOException; // thrown by the target of appendTo
+import java.util.Comparator; // to sort the list
 import java.util.Iterator; // to use the iterator class
 import java.util.ListIterator; // to use the list iterator class
 import java.util.NoSuchElementException; // to use no such element exception class
+import java.util.Spliterator; // to split the list for parallel streams
+import java.util.Spliterators; // to wrap the batches split off the list
+import java.util.function.Consumer; // to pass the elements to a spliterator action
 
 public class LinkedList<E> implements List<E>{
 	// Data members
     private Node head, tail;
 	int size;
 
+	// Node pool data members, nodes removed from the list are kept here for the next adds
+	private Node pool; // free nodes linked through next
+	private int poolSize;
+	private int poolCapacity; // 0 when pooling is off
+	private long poolHits, poolMisses;
+	private static final int NODE_BYTES = 24; // header, value, next and the reference to the list, with 4 byte references
+
 	//Inner class node
 	private class Node {
 		// Data members
@@ -49,7 +61,7 @@ public class LinkedList<E> implements List<E>{
 	 * @return true if the item is added
 	 */
 	public boolean addFirst(E item) {// O(1)
-		Node newNode = new Node(item);
+		Node newNode = newNode(item);
 		if (head == null) { 
 			head = tail = newNode;
 		} else {
@@ -66,7 +78,7 @@ public class LinkedList<E> implements List<E>{
 	 * @return true if the item is added
 	 */
 	public boolean addLast(E item) {// O(1)
-		Node newNode = new Node(item);
+		Node newNode = newNode(item);
 		if (head == null) {
 			head = tail = newNode;
 		} else {
@@ -119,11 +131,13 @@ public class LinkedList<E> implements List<E>{
 		if (head == null){
             throw new NoSuchElementException();
         }	
+		Node removed = head;
 		head = head.next;
 		if (head == null){
             tail = null;
         }
 		size--;
+		release(removed);
 		return true;
 	}
 
@@ -145,26 +159,208 @@ public class LinkedList<E> implements List<E>{
 			previous = current;
 			current = current.next;
 		}
+		if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.traversed(size - 1);
 		previous.next = null;
 		tail = previous;
 		size--;
+		release(current);
 		return true;
 	}
 
+	/***
+	 * Method to sort the list by relinking its nodes, no node is created or copied
+	 * Bottom-up natural merge sort: ascending runs are kept, strictly descending runs are reversed,
+	 * then runs are merged like a binary counter, so presorted input takes a single pass
+	 * The sort is stable
+	 * @param comparator which orders the items, or null for their natural ordering
+	 * no return value
+	 */
+	public void sort(Comparator<? super E> comparator) { // O(n log n), O(n) for presorted input
+		if (size < 2) {
+			return;
+		}
+		@SuppressWarnings("unchecked") // without a comparator the items have to be Comparable
+		Comparator<? super E> order = comparator != null ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+		Object[] levels = new Object[32]; // level k holds a run of at least 2^k items
+		Node current = head; // first of the items not cut into runs yet
+		Node run = null; // run being cut or merged, not held by levels
+		Node other = null; // earlier run of a merge in progress
+		try {
+			while (current != null) {
+				// cuts the next natural run off the list
+				run = current;
+				Node next = current.next;
+				if (next != null && order.compare(current.value, next.value) > 0) {
+					current.next = null; // the first item becomes the tail of the reversed run
+					current = next;
+					while (current != null && order.compare(run.value, current.value) > 0) {
+						next = current.next;
+						current.next = run;
+						run = current;
+						current = next;
+					}
+				} else {
+					Node runTail = current;
+					while (next != null && order.compare(runTail.value, next.value) <= 0) {
+						runTail = next;
+						next = next.next;
+					}
+					runTail.next = null;
+					current = next;
+				}
+				// adds the run to the binary counter, a higher level always holds earlier items
+				int level = 0;
+				while (level < levels.length - 1 && levels[level] != null) {
+					other = nodeAt(levels, level);
+					levels[level] = null;
+					run = merge(other, run, order);
+					other = null;
+					level++;
+				}
+				if (levels[level] != null) {
+					other = nodeAt(levels, level);
+					levels[level] = null;
+					run = merge(other, run, order);
+					other = null;
+				}
+				levels[level] = run;
+				run = null;
+			}
+			for (int level = 0; level < levels.length; level++) {
+				if (levels[level] != null) {
+					other = nodeAt(levels, level);
+					levels[level] = null;
+					run = (run == null) ? other : merge(other, run, order);
+					other = null;
+				}
+			}
+			head = run;
+		} catch (RuntimeException | Error e) {
+			// a comparator that throws leaves every node in one chain, partly sorted, and size stays right
+			head = salvage(levels, current, run, other);
+			throw e;
+		} finally {
+			// finds the new tail, also after a failed sort
+			Node last = head;
+			while (last.next != null) {
+				last = last.next;
+			}
+			tail = last;
+		}
+	}
+
+	/***
+	 * Method to merge two sorted runs of nodes, taking from first on ties to keep the sort stable
+	 * If the comparator throws, the merged part and the rest of both runs are left linked in one chain
+	 * @param first which contains the run of earlier items
+	 * @param second which contains the run of later items
+	 * @param order which orders the items
+	 * @return head of the merged run
+	 */
+	private Node merge(Node first, Node second, Comparator<? super E> order) { // O(n)
+		Node mergedHead = null;
+		Node mergedTail = null;
+		try {
+			if (order.compare(first.value, second.value) <= 0) {
+				mergedHead = first;
+				first = first.next;
+			} else {
+				mergedHead = second;
+				second = second.next;
+			}
+			mergedTail = mergedHead;
+			while (first != null && second != null) {
+				if (order.compare(first.value, second.value) <= 0) {
+					mergedTail.next = first;
+					first = first.next;
+				} else {
+					mergedTail.next = second;
+					second = second.next;
+				}
+				mergedTail = mergedTail.next;
+			}
+			mergedTail.next = (first != null) ? first : second;
+			return mergedHead;
+		} catch (RuntimeException | Error e) {
+			Node rest = link(first, second);
+			if (mergedTail != null) {
+				mergedTail.next = rest;
+			}
+			throw e;
+		}
+	}
+
+	/***
+	 * Method to link the pieces a failed sort left behind back into one chain
+	 * @param levels which contains the runs of the binary counter
+	 * @param current which contains the items not cut into runs yet
+	 * @param run which contains the run being cut or merged, or null
+	 * @param other which contains the earlier run of a merge in progress, or null
+	 * @return head of the chain
+	 */
+	private Node salvage(Object[] levels, Node current, Node run, Node other) { // O(n)
+		if (other != null) {
+			// merge left both runs in one chain, it starts at other if run can be reached from other
+			Node node = other;
+			while (node != null && node != run) {
+				node = node.next;
+			}
+			run = (node == run) ? other : run;
+		}
+		if (run == current) {
+			run = null; // an ascending run is still linked to the items after it
+		}
+		Node result = link(run, current);
+		for (int level = 0; level < levels.length; level++) {
+			result = link(nodeAt(levels, level), result);
+		}
+		return result;
+	}
+
+	/***
+	 * Method to link a chain of nodes in front of another one
+	 * @param first which contains the chain to put in front, or null
+	 * @param second which contains the chain to put after it, or null
+	 * @return head of the linked chain
+	 */
+	private Node link(Node first, Node second) { // O(length of first)
+		if (first == null) {
+			return second;
+		}
+		Node last = first;
+		while (last.next != null) {
+			last = last.next;
+		}
+		last.next = second;
+		return first;
+	}
+
+	@SuppressWarnings("unchecked") // levels only ever holds nodes of this list
+	private Node nodeAt(Object[] levels, int level) {
+		return (Node) levels[level];
+	}
+
 	/***
 	 * Method to return values of the linked list
 	 * no parameters
 	 * @return string containing all the values 
 	 */
 	public String toString() { // O(n)
-		String output = "[";
-		Node node = head;
-		while (node != null) {
-			output += node.value + " ";
-			node = node.next;
+		return ListWriter.render(this, head == null ? null : head.value);
+	}
+
+	/***
+	 * Method to write the values of the linked list in the same format as toString, a chunk at a time
+	 * @param out which is the target the values are written to
+	 * no return value
+	 */
+	public void appendTo(Appendable out) throws IOException { // O(n)
+		ListWriter writer = new ListWriter(out);
+		writer.append('[');
+		for (Node node = head; node != null; node = node.next) {
+			writer.append(node.value).append(' ');
 		}
-		output += "]";
-		return output;
+		writer.append(']').finish();
 	}
 
 	/***
@@ -172,11 +368,108 @@ public class LinkedList<E> implements List<E>{
 	 * no parameters
 	 * no return value 
 	 */
-	public void clear() { // O(1)
+	public void clear() { // O(1), O(pool capacity) when pooling is on
+		Node node = head;
+		while (node != null && poolSize < poolCapacity) {
+			Node next = node.next;
+			release(node);
+			node = next;
+		}
 		head = tail = null;
 		size = 0;
 	}
 
+	/***
+	 * Method to turn on the node pool, removed nodes are kept and reused by the add methods
+	 * Iterators must not be used across a remove while pooling is on, the removed node may be reused
+	 * @param capacity which contains the largest number of free nodes kept
+	 * no return value
+	 */
+	public void enableNodePool(int capacity) { // O(1)
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+		}
+		poolCapacity = capacity;
+		while (poolSize > capacity) { // drops the free nodes which no longer fit
+			pool = pool.next;
+			poolSize--;
+		}
+	}
+
+	/***
+	 * Method to turn off the node pool and drop the free nodes
+	 * no parameters
+	 * no return value
+	 */
+	public void disableNodePool() { // O(1)
+		pool = null;
+		poolSize = 0;
+		poolCapacity = 0;
+	}
+
+	/***
+	 * Method to return the number of nodes the add methods took from the pool
+	 * no parameters
+	 * @return pool hits
+	 */
+	public long poolHits() { // O(1)
+		return poolHits;
+	}
+
+	/***
+	 * Method to return the number of nodes the add methods had to create while pooling was on
+	 * no parameters
+	 * @return pool misses
+	 */
+	public long poolMisses() { // O(1)
+		return poolMisses;
+	}
+
+	/***
+	 * Method to return the number of free nodes in the pool
+	 * no parameters
+	 * @return pool size
+	 */
+	public int poolSize() { // O(1)
+		return poolSize;
+	}
+
+	/***
+	 * Method to get a node for an item, from the pool when it has one
+	 * @param item which contains the value of the node
+	 * @return node holding the item and no links
+	 */
+	private Node newNode(E item) { // O(1)
+		Node node = pool;
+		if (node == null) {
+			if (poolCapacity > 0) {
+				poolMisses++;
+			}
+			if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.allocated(NODE_BYTES);
+			return new Node(item);
+		}
+		pool = node.next;
+		poolSize--;
+		poolHits++;
+		node.value = item;
+		node.next = null;
+		return node;
+	}
+
+	/***
+	 * Method to give a removed node back to the pool if there is room
+	 * @param node which has been unlinked from the list
+	 * no return value
+	 */
+	private void release(Node node) { // O(1)
+		if (poolSize < poolCapacity) {
+			node.value = null; // the pool must not keep removed items alive
+			node.next = pool;
+			pool = node;
+			poolSize++;
+		}
+	}
+
 	/***
 	 * Method to check if list is empty
 	 * no parameters
@@ -201,6 +494,7 @@ public class LinkedList<E> implements List<E>{
 	 * @return LinkedListIterator
 	 */
 	public Iterator<E> iterator() {
+		if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.iteratorCreated();
 		return new LinkedListIterator(); 
 	}
 
@@ -210,6 +504,7 @@ public class LinkedList<E> implements List<E>{
 	 * @return LinkedListListIterator
 	 */
 	public ListIterator<E> listIterator(){
+		if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.iteratorCreated();
 		return new LinkedListListIterator(); 
 	}
  
@@ -222,10 +517,92 @@ public class LinkedList<E> implements List<E>{
 		if(index < 0 || index > size){
 			throw new ArrayIndexOutOfBoundsException();
 		} else {
+			 if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.iteratorCreated();
 			 return new LinkedListListIterator(size);
 		}
 	}
 
+	/***
+	 * Method to generate a spliterator which splits the list by copying batches of nodes into arrays
+	 * no parameters
+	 * @return NodeSpliterator
+	 */
+	public Spliterator<E> spliterator() {
+		return new NodeSpliterator();
+	}
+
+	// Inner spliterator class which walks the nodes and hands out growing batches for other threads
+	private class NodeSpliterator implements Spliterator<E> {
+		private static final int BATCH_UNIT = 1 << 10; // size increase of every batch
+		private static final int MAX_BATCH = 1 << 25; // largest batch copied into an array
+
+		// data members, bound to head and size on first use
+		private Node current;
+		private int remaining = -1;
+		private int batch;
+
+		private int getRemaining() {
+			if (remaining < 0) {
+				current = head;
+				remaining = size;
+			}
+			return remaining;
+		}
+
+		/***
+		 * Method to copy the next batch of elements into an array and split it off
+		 * no parameters
+		 * @return spliterator over the batch, or null if there is nothing to split
+		 */
+		public Spliterator<E> trySplit() { // O(batch)
+			int left = getRemaining();
+			if (left <= 1 || current == null) {
+				return null;
+			}
+			int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), left);
+			Object[] array = new Object[n];
+			int j = 0;
+			while (j < n && current != null) {
+				array[j++] = current.value;
+				current = current.next;
+			}
+			batch = j;
+			remaining = left - j;
+			return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+		}
+
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (getRemaining() > 0 && current != null) {
+				E value = current.value;
+				current = current.next;
+				remaining--;
+				action.accept(value);
+				return true;
+			}
+			return false;
+		}
+
+		public void forEachRemaining(Consumer<? super E> action) {
+			getRemaining();
+			Node node = current;
+			int n = remaining;
+			current = null;
+			remaining = 0;
+			while (node != null && n-- > 0) {
+				action.accept(node.value);
+				node = node.next;
+			}
+		}
+
+		public long estimateSize() {
+			return getRemaining();
+		}
+
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
 	// Inner linked list iterator class which implements Iterator of Generic type
 	class LinkedListIterator implements Iterator<E> {
 		// data member
@@ -251,6 +628,7 @@ public class LinkedList<E> implements List<E>{
 			}
 			E value = current.value;
 			current = current.next;
+			if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.traversed(1);
 			return value;
 		}
 	}
@@ -283,6 +661,7 @@ public class LinkedList<E> implements List<E>{
 				current = current.next;
 				i++;
 			}
+			if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.traversed(i);
 		}
  
 		/***
@@ -305,6 +684,7 @@ public class LinkedList<E> implements List<E>{
             }	
 			E value = current.value; 
 			current = current.next;
+			if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.traversed(1);
 			return value; 
 		}
   
@@ -328,10 +708,13 @@ public class LinkedList<E> implements List<E>{
             }	
 			Node temp = head;
 			Node p = null;
+			long steps = 0;
 			while(current != temp){
 				p = temp;
 				temp = temp.next;
+				steps++;
 			}
+			if (ListMetrics.ENABLED) ListMetrics.LINKED_LIST.traversed(steps);
 			E value = current.value;
 			current = p;
 			return value;
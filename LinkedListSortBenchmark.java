@@ -0,0 +1,89 @@
+/***
+ * Class to benchmark the in-place node relinking sort of LinkedList and DoublyLinkedList
+ * against draining the list into an array, sorting it and rebuilding the nodes
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to sort the drained array
+import java.util.Comparator; // to order the items
+import java.util.ListIterator; // to drain the lists
+import java.util.Random; // to shuffle the input
+
+public class LinkedListSortBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 100000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {100_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		Comparator<Integer> order = Comparator.naturalOrder();
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			for (String shape : new String[] {"random", "sorted", "reversed"}) {
+				Integer[] values = values(size, shape);
+				String params = shape + "/" + size;
+				ListBenchmark.run("LinkedList.sortInPlace", params, () -> fill(new LinkedList<Integer>(), values), list -> {
+					list.sort(order);
+					return size;
+				});
+				ListBenchmark.run("LinkedList.copySortRebuild", params, () -> fill(new LinkedList<Integer>(), values), list -> {
+					Integer[] array = drain(list);
+					Arrays.sort(array, order);
+					list.clear();
+					for (Integer item : array) list.addLast(item);
+					return size;
+				});
+				ListBenchmark.run("DoublyLinkedList.sortInPlace", params, () -> fill(new DoublyLinkedList<Integer>(), values), list -> {
+					list.sort(order);
+					return size;
+				});
+				ListBenchmark.run("DoublyLinkedList.copySortRebuild", params, () -> fill(new DoublyLinkedList<Integer>(), values), list -> {
+					Integer[] array = drain(list);
+					Arrays.sort(array, order);
+					list.clear();
+					for (Integer item : array) list.addLast(item);
+					return size;
+				});
+			}
+		}
+	}
+
+	private static Integer[] values(int size, String shape) {
+		Integer[] values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = shape.equals("reversed") ? size - i : i;
+		}
+		if (shape.equals("random")) {
+			Random random = new Random(42);
+			for (int i = size - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				Integer swap = values[i];
+				values[i] = values[j];
+				values[j] = swap;
+			}
+		}
+		return values;
+	}
+
+	private static <L extends List<Integer>> L fill(L list, Integer[] values) {
+		for (Integer value : values) list.add(value);
+		return list;
+	}
+
+	private static Integer[] drain(List<Integer> list) {
+		Integer[] array = new Integer[list.size()];
+		ListIterator<Integer> it = list.listIterator();
+		for (int i = 0; it.hasNext(); i++) array[i] = it.next();
+		return array;
+	}
+}
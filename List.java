@@ -3,11 +3,17 @@
  * @author Udita Agarwal
  * @version 0.1
  * Date of creation: November 4th, 2021
- * Last Date Modified: November 11th, 2021
+ * Last Date Modified: October 17th, 2026
  */
 
 
+import java.io.IOException; // thrown by the targets of appendTo and writeTo
+import java.io.Writer; // to stream the list to a writer
 import java.util.ListIterator; // to use the list iterator class 
+import java.util.Spliterator; // to split the list for parallel streams
+import java.util.Spliterators; // to build the default spliterator
+import java.util.stream.Stream; // to stream the list
+import java.util.stream.StreamSupport; // to build a stream from a spliterator
 
 public interface List<E>{
 
@@ -16,6 +22,61 @@ public interface List<E>{
     public abstract int size();
     public abstract ListIterator<E> listIterator();
     public abstract ListIterator<E> listIterator(int index);
+
+    /***
+     * Method to generate a spliterator for the list
+     * Walks listIterator() and splits into arrays, implementations override it with a better one
+     * no parameters
+     * @return spliterator over the elements in order
+     */
+    public default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(listIterator(), size(), Spliterator.ORDERED);
+    }
+
+    /***
+     * Method to generate a sequential stream over the list
+     * no parameters
+     * @return stream of the elements
+     */
+    public default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /***
+     * Method to generate a parallel stream over the list
+     * no parameters
+     * @return parallel stream of the elements
+     */
+    public default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /***
+     * Method to write the values of the list to an appendable, a chunk at a time
+     * Walks listIterator() and writes [a b c ], implementations override it with their own format
+     * @param out which is the target the values are written to
+     * no return value
+     */
+    public default void appendTo(Appendable out) throws IOException {
+        ListWriter writer = new ListWriter(out);
+        writer.append('[');
+        ListIterator<E> it = listIterator();
+        while (it.hasNext()) {
+            writer.append(it.next()).append(' ');
+        }
+        writer.append(']').finish();
+    }
+
+    /***
+     * Method to write the values of the list to a writer and flush it
+     * The writer keeps its encoder between calls, so one writer can be reused for every list
+     * @param out which is the writer the values are written to
+     * no return value
+     */
+    public default void writeTo(Writer out) throws IOException {
+        appendTo(out);
+        out.flush();
+    }
     
 
 
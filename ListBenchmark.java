@@ -0,0 +1,464 @@
+/***
+ * Class to benchmark the ArrayList, LinkedList and DoublyLinkedList classes across every List operation
+ * Reports throughput, average time and allocation rate for each implementation
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.File; // to use the file class
+import java.io.FileNotFoundException; // to use the file not found exception class
+import java.io.IOException; // to use the io exception class
+import java.io.PrintWriter; // to write the generated input file
+import java.io.UncheckedIOException; // to report a failed write from a benchmark body
+import java.io.Writer; // to discard the output of writeTo
+import java.lang.management.ManagementFactory; // to read the per thread allocation counter
+import java.util.ListIterator; // to use the list iterator class
+import java.util.Scanner; // to read the countries file
+import java.util.function.Supplier; // to create a fresh list for every iteration
+import java.util.function.ToLongFunction; // to run the measured body of a benchmark
+
+public class ListBenchmark {
+
+	// default parameters, can be changed from the command line
+	private static final int[] DEFAULT_SIZES = {100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+	private static final String[] DEFAULT_TYPES = {"String", "Integer"};
+	private static int warmupIterations = 3;
+	private static int measurementIterations = 5;
+
+	// operations which cost O(n) each are only run this many times per iteration
+	private static final int MAX_LINEAR_OPS = 1_000;
+
+	// lists bigger than this are not traversed backward through the singly linked list iterator (O(n^2))
+	private static final int MAX_QUADRATIC_SIZE = 10_000;
+
+	// results are consumed here so the JIT cannot remove the measured work
+	private static volatile long sink;
+
+	private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+	/***
+	 * Main method which runs the whole suite
+	 * @param args optional -sizes 100,1000 -types String,Integer -wi 3 -i 5 -only name
+	 * no return value
+	 */
+	public static void main(String[] args) throws IOException {
+		int[] sizes = DEFAULT_SIZES;
+		String[] types = DEFAULT_TYPES;
+		String only = null;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "-sizes": sizes = parseSizes(args[i + 1]); break;
+				case "-types": types = args[i + 1].split(","); break;
+				case "-wi": warmupIterations = Integer.parseInt(args[i + 1]); break;
+				case "-i": measurementIterations = Integer.parseInt(args[i + 1]); break;
+				case "-only": only = args[i + 1]; break;
+				default: throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+
+		printHeader();
+		for (String type : types) {
+			for (int size : sizes) {
+				runAll(type, size, only);
+			}
+		}
+	}
+
+	/***
+	 * Method to run every benchmark for one element type and one size
+	 * @param type which contains the element type (String or Integer)
+	 * @param size which contains the number of elements in the list
+	 * @param only which contains a name filter, or null to run everything
+	 * no return value
+	 */
+	private static void runAll(String type, int size, String only) throws IOException {
+		Object[] values = values(type, size);
+		String params = type + "/" + size;
+		int linearOps = Math.min(size, MAX_LINEAR_OPS);
+
+		// ArrayList
+		if (matches(only, "add")) {
+			run("ArrayList.add", params, () -> new ArrayList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.add(values[i]);
+				return size;
+			});
+			run("LinkedList.add", params, () -> new LinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.add(values[i]);
+				return size;
+			});
+			run("DoublyLinkedList.add", params, () -> new DoublyLinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.add(values[i]);
+				return size;
+			});
+		}
+		if (matches(only, "addAtIndex")) {
+			run("ArrayList.addAtIndex", params, () -> filledArrayList(values, size), list -> {
+				for (int i = 0; i < linearOps; i++) list.add(list.size() / 2, values[i]);
+				return linearOps;
+			});
+		}
+		if (matches(only, "get")) {
+			run("ArrayList.get", params, () -> filledArrayList(values, size), list -> {
+				long hash = 0;
+				for (int i = 0; i < size; i++) hash += list.get(i).hashCode();
+				sink = hash;
+				return size;
+			});
+		}
+		if (matches(only, "set")) {
+			run("ArrayList.set", params, () -> filledArrayList(values, size), list -> {
+				for (int i = 0; i < size; i++) list.set(i, values[size - 1 - i]);
+				return size;
+			});
+		}
+		if (matches(only, "removeIndex")) {
+			run("ArrayList.removeIndex", params, () -> filledArrayList(values, size), list -> {
+				for (int i = 0; i < linearOps; i++) list.remove(list.size() / 2);
+				return linearOps;
+			});
+		}
+		if (matches(only, "removeObject")) {
+			run("ArrayList.removeObject", params, () -> filledArrayList(values, size), list -> {
+				// removes from the middle so every call scans half of the list and finds its value
+				int removals = Math.min(linearOps, size - size / 2);
+				for (int i = 0; i < removals; i++) list.remove(values[size / 2 + i]);
+				return removals;
+			});
+		}
+
+		// LinkedList and DoublyLinkedList
+		if (matches(only, "addFirst")) {
+			run("LinkedList.addFirst", params, () -> new LinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.addFirst(values[i]);
+				return size;
+			});
+			run("DoublyLinkedList.addFirst", params, () -> new DoublyLinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.addFirst(values[i]);
+				return size;
+			});
+		}
+		if (matches(only, "addLast")) {
+			run("LinkedList.addLast", params, () -> new LinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.addLast(values[i]);
+				return size;
+			});
+			run("DoublyLinkedList.addLast", params, () -> new DoublyLinkedList<Object>(), list -> {
+				for (int i = 0; i < size; i++) list.addLast(values[i]);
+				return size;
+			});
+		}
+		if (matches(only, "removeFirst")) {
+			run("LinkedList.removeFirst", params, () -> filledLinkedList(values, size), list -> {
+				for (int i = 0; i < size; i++) list.removeFirst();
+				return size;
+			});
+			run("DoublyLinkedList.removeFirst", params, () -> filledDoublyLinkedList(values, size), list -> {
+				for (int i = 0; i < size; i++) list.removeFirst();
+				return size;
+			});
+		}
+		if (matches(only, "removeLast")) {
+			run("LinkedList.removeLast", params, () -> filledLinkedList(values, size), list -> {
+				for (int i = 0; i < linearOps - 1; i++) list.removeLast();
+				return linearOps - 1;
+			});
+			run("DoublyLinkedList.removeLast", params, () -> filledDoublyLinkedList(values, size), list -> {
+				for (int i = 0; i < linearOps - 1; i++) list.removeLast();
+				return linearOps - 1;
+			});
+		}
+
+		// traversal through the list iterators
+		if (matches(only, "iterateForward")) {
+			run("ArrayList.iterateForward", params, () -> filledArrayList(values, size), ListBenchmark::forward);
+			run("LinkedList.iterateForward", params, () -> filledLinkedList(values, size), ListBenchmark::forward);
+			run("DoublyLinkedList.iterateForward", params, () -> filledDoublyLinkedList(values, size), ListBenchmark::forward);
+		}
+		if (matches(only, "iterateBackward")) {
+			run("ArrayList.iterateBackward", params, () -> filledArrayList(values, size), ListBenchmark::backward);
+			if (size <= MAX_QUADRATIC_SIZE) {
+				run("LinkedList.iterateBackward", params, () -> filledLinkedList(values, size), ListBenchmark::backward);
+			} else {
+				skip("LinkedList.iterateBackward", params, "previous() is O(n)");
+			}
+			run("DoublyLinkedList.iterateBackward", params, () -> filledDoublyLinkedList(values, size), ListBenchmark::backward);
+		}
+
+		// rendering the whole list as text
+		if (matches(only, "toString")) {
+			run("ArrayList.toString", params, () -> filledArrayList(values, size), list -> render(list));
+			run("LinkedList.toString", params, () -> filledLinkedList(values, size), list -> render(list));
+			run("DoublyLinkedList.toString", params, () -> filledDoublyLinkedList(values, size), list -> render(list));
+		}
+		if (matches(only, "writeTo")) {
+			run("ArrayList.writeTo", params, () -> filledArrayList(values, size), list -> write(list));
+			run("LinkedList.writeTo", params, () -> filledLinkedList(values, size), list -> write(list));
+			run("DoublyLinkedList.writeTo", params, () -> filledDoublyLinkedList(values, size), list -> write(list));
+		}
+
+		// load path through Test.readFromFile, only meaningful for strings
+		if (matches(only, "readFromFile") && type.equals("String")) {
+			File input = writeInputFile(values, size);
+			String name = input.getPath();
+			run("ArrayList.readFromFile", params, () -> new ArrayList<String>(), list -> load(list, name, size));
+			run("LinkedList.readFromFile", params, () -> new LinkedList<String>(), list -> load(list, name, size));
+			run("DoublyLinkedList.readFromFile", params, () -> new DoublyLinkedList<String>(), list -> load(list, name, size));
+			input.delete();
+		}
+	}
+
+	/***
+	 * Method to run one benchmark and print its results
+	 * @param name which contains the name of the benchmark
+	 * @param params which contains the parameters of the benchmark (type/size)
+	 * @param setup which creates the state for every iteration, this part is not measured
+	 * @param body which runs the measured work and returns the number of operations performed
+	 * @return array containing the average time in ns/op and the allocated bytes/op
+	 */
+	public static <S> double[] run(String name, String params, Supplier<S> setup, ToLongFunction<S> body) {
+		for (int i = 0; i < warmupIterations; i++) {
+			body.applyAsLong(setup.get());
+		}
+		long totalOps = 0;
+		long totalNanos = 0;
+		long totalBytes = 0;
+		for (int i = 0; i < measurementIterations; i++) {
+			S state = setup.get();
+			long bytesBefore = allocatedBytes();
+			long start = System.nanoTime();
+			totalOps += body.applyAsLong(state);
+			totalNanos += System.nanoTime() - start;
+			totalBytes += allocatedBytes() - bytesBefore;
+		}
+		totalOps = Math.max(totalOps, 1);
+		totalNanos = Math.max(totalNanos, 1);
+		double throughput = totalOps * 1e9 / totalNanos;
+		double averageTime = (double) totalNanos / totalOps;
+		double allocRate = totalBytes * 1e9 / totalNanos / (1024 * 1024);
+		double bytesPerOp = (double) totalBytes / totalOps;
+		System.out.printf("%-36s %-16s %16.1f %14.2f %12.1f %12.1f%n",
+				name, params, throughput, averageTime, allocRate, bytesPerOp);
+		return new double[] {averageTime, bytesPerOp};
+	}
+
+	/***
+	 * Method to set the number of warmup and measurement iterations used by run
+	 * @param warmup which contains the number of warmup iterations
+	 * @param measurement which contains the number of measured iterations
+	 * no return value
+	 */
+	public static void setIterations(int warmup, int measurement) {
+		warmupIterations = warmup;
+		measurementIterations = measurement;
+	}
+
+	/***
+	 * Method to print the column names of the results table
+	 * no parameters
+	 * no return value
+	 */
+	public static void printHeader() {
+		System.out.printf("%-36s %-16s %16s %14s %12s %12s%n",
+				"Benchmark", "Params", "Thrpt (ops/s)", "Avgt (ns/op)", "Alloc (MB/s)", "Alloc (B/op)");
+	}
+
+	/***
+	 * Method to print a row for a benchmark which was not run
+	 * @param name which contains the name of the benchmark
+	 * @param params which contains the parameters of the benchmark
+	 * @param reason which contains why it was skipped
+	 * no return value
+	 */
+	private static void skip(String name, String params, String reason) {
+		System.out.printf("%-36s %-16s skipped: %s%n", name, params, reason);
+	}
+
+	/***
+	 * Method to consume a value so the JIT keeps the work that produced it
+	 * @param value which needs to be consumed
+	 * no return value
+	 */
+	public static void consume(Object value) {
+		sink += System.identityHashCode(value);
+	}
+
+	/***
+	 * Method to traverse a list forward through its list iterator
+	 * @param list which needs to be traversed
+	 * @return number of elements visited
+	 */
+	private static <E> long forward(List<E> list) { // O(n)
+		ListIterator<E> it = list.listIterator();
+		long count = 0;
+		while (it.hasNext()) {
+			consume(it.next());
+			count++;
+		}
+		return count;
+	}
+
+	/***
+	 * Method to traverse a list backward through its list iterator
+	 * @param list which needs to be traversed
+	 * @return number of elements visited
+	 */
+	private static <E> long backward(List<E> list) {
+		ListIterator<E> it = list.listIterator(list.size());
+		long count = 0;
+		while (it.hasPrevious()) {
+			consume(it.previous());
+			count++;
+		}
+		return count;
+	}
+
+	/***
+	 * Method to render a list with toString
+	 * @param list which needs to be rendered
+	 * @return 1, the list is rendered once
+	 */
+	private static long render(Object list) { // O(n)
+		consume(list.toString());
+		return 1;
+	}
+
+	/***
+	 * Method to stream a list into a writer which discards the text
+	 * @param list which needs to be written
+	 * @return 1, the list is written once
+	 */
+	private static long write(List<Object> list) { // O(n)
+		try {
+			list.writeTo(Writer.nullWriter());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return 1;
+	}
+
+	/***
+	 * Method to load a file into a list through Test.readFromFile
+	 * @param list where the lines need to be added
+	 * @param fileName which contains the file to read
+	 * @param size which contains the number of lines in the file
+	 * @return number of lines read
+	 */
+	private static long load(List<String> list, String fileName, int size) {
+		try {
+			Test.readFromFile(list, fileName);
+		} catch (FileNotFoundException e) {
+			throw new IllegalStateException(e);
+		}
+		return size;
+	}
+
+	/***
+	 * Method to create the elements used by the benchmarks
+	 * @param type which contains the element type (String or Integer)
+	 * @param size which contains the number of elements
+	 * @return array of distinct elements
+	 */
+	private static Object[] values(String type, int size) throws IOException {
+		Object[] values = new Object[size];
+		if (type.equals("Integer")) {
+			for (int i = 0; i < size; i++) values[i] = Integer.valueOf(i);
+		} else if (type.equals("String")) {
+			String[] countries = countries();
+			for (int i = 0; i < size; i++) values[i] = countries[i % countries.length] + " " + i;
+		} else {
+			throw new IllegalArgumentException("Unknown element type " + type);
+		}
+		return values;
+	}
+
+	/***
+	 * Method to read the country names used to build string elements
+	 * no parameters
+	 * @return array of country names
+	 */
+	private static String[] countries() throws IOException {
+		ArrayList<String> names = new ArrayList<>();
+		try (Scanner scanner = new Scanner(new File("countries.txt"))) {
+			while (scanner.hasNextLine()) names.add(scanner.nextLine());
+		}
+		String[] result = new String[names.size()];
+		for (int i = 0; i < result.length; i++) result[i] = names.get(i);
+		return result;
+	}
+
+	/***
+	 * Method to write the elements into a temporary file, one per line
+	 * @param values which contains the elements
+	 * @param size which contains the number of elements to write
+	 * @return the temporary file
+	 */
+	private static File writeInputFile(Object[] values, int size) throws IOException {
+		File file = File.createTempFile("list-benchmark", ".txt");
+		file.deleteOnExit();
+		try (PrintWriter writer = new PrintWriter(file)) {
+			for (int i = 0; i < size; i++) writer.println(values[i]);
+		}
+		return file;
+	}
+
+	/***
+	 * Methods to create lists which already contain the elements
+	 * @param values which contains the elements
+	 * @param size which contains the number of elements to add
+	 * @return the filled list
+	 */
+	private static ArrayList<Object> filledArrayList(Object[] values, int size) {
+		ArrayList<Object> list = new ArrayList<>();
+		for (int i = 0; i < size; i++) list.add(values[i]);
+		return list;
+	}
+
+	private static LinkedList<Object> filledLinkedList(Object[] values, int size) {
+		LinkedList<Object> list = new LinkedList<>();
+		for (int i = 0; i < size; i++) list.add(values[i]);
+		return list;
+	}
+
+	private static DoublyLinkedList<Object> filledDoublyLinkedList(Object[] values, int size) {
+		DoublyLinkedList<Object> list = new DoublyLinkedList<>();
+		for (int i = 0; i < size; i++) list.add(values[i]);
+		return list;
+	}
+
+	/***
+	 * Method to read the bytes allocated by the current thread so far
+	 * no parameters
+	 * @return allocated bytes, or 0 if the JVM does not support it
+	 */
+	private static long allocatedBytes() {
+		if (THREADS == null) return 0;
+		return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+			if (threads.isThreadAllocatedMemorySupported()) {
+				threads.setThreadAllocatedMemoryEnabled(true);
+				return threads;
+			}
+		}
+		return null;
+	}
+
+	private static boolean matches(String only, String name) {
+		return only == null || only.equals(name);
+	}
+
+	private static int[] parseSizes(String text) {
+		String[] parts = text.split(",");
+		int[] sizes = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) sizes[i] = (int) Double.parseDouble(parts[i]);
+		return sizes;
+	}
+}
@@ -0,0 +1,234 @@
+/***
+ * Class to model the class ListMetrics which counts the work done inside ArrayList, LinkedList and DoublyLinkedList
+ * There is one instance per list class, shared by all of its lists, with striped LongAdder counters so
+ * lists used from many threads do not contend on one counter
+ * Metrics are switched on with -Dlists.metrics=true, every call site is guarded by the static final ENABLED flag,
+ * so when metrics are off the JIT folds the guard to false and removes the instrumentation
+ * When metrics are on the instances are registered with the platform MBean server as lists:type=ListMetrics,name=<list>
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.lang.management.ManagementFactory; // to find the platform MBean server
+import java.util.concurrent.atomic.LongAdder; // to count without contention
+import javax.management.JMException; // thrown when registering fails
+import javax.management.ObjectName; // to name the registered instances
+
+public class ListMetrics implements ListMetricsMBean{
+
+	// read once when the class is loaded, a constant for the JIT
+	public static final boolean ENABLED = Boolean.getBoolean("lists.metrics");
+
+	public static final ListMetrics ARRAY_LIST = new ListMetrics("ArrayList");
+	public static final ListMetrics LINKED_LIST = new ListMetrics("LinkedList");
+	public static final ListMetrics DOUBLY_LINKED_LIST = new ListMetrics("DoublyLinkedList");
+
+	static {
+		if (ENABLED) {
+			try {
+				for (ListMetrics metrics : all()) {
+					ObjectName name = new ObjectName("lists:type=ListMetrics,name=" + metrics.name);
+					if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+						ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+					}
+				}
+			}
+			catch (JMException e) {
+				throw new IllegalStateException("Could not register the list metrics", e);
+			}
+		}
+	}
+
+	// Data members
+	private final String name;
+	private final LongAdder resizes = new LongAdder();
+	private final LongAdder shrinks = new LongAdder();
+	private final LongAdder elementsCopied = new LongAdder();
+	private final LongAdder bytesAllocated = new LongAdder();
+	private final LongAdder equalsComparisons = new LongAdder();
+	private final LongAdder nodesTraversed = new LongAdder();
+	private final LongAdder iteratorsCreated = new LongAdder();
+
+	private ListMetrics(String name) {
+		this.name = name;
+	}
+
+	/***
+	 * Method to return the metrics of every list class
+	 * no parameters
+	 * @return array with the ArrayList, LinkedList and DoublyLinkedList metrics
+	 */
+	public static ListMetrics[] all() {
+		return new ListMetrics[] {ARRAY_LIST, LINKED_LIST, DOUBLY_LINKED_LIST};
+	}
+
+	/***
+	 * Method to record that a backing array was replaced
+	 * @param copied which contains the number of elements copied into the new array
+	 * @param bytes which contains the size of the new array in bytes
+	 * no return value
+	 */
+	void resized(long copied, long bytes) {
+		resizes.increment();
+		elementsCopied.add(copied);
+		bytesAllocated.add(bytes);
+	}
+
+	/***
+	 * Method to record that a backing array was replaced with a smaller one, counted as a resize as well
+	 * @param copied which contains the number of elements copied into the new array
+	 * @param bytes which contains the size of the new array in bytes
+	 * no return value
+	 */
+	void shrunk(long copied, long bytes) {
+		shrinks.increment();
+		resized(copied, bytes);
+	}
+
+	/***
+	 * Method to record memory allocated to hold more elements, such as a new node
+	 * @param bytes which contains the number of bytes allocated
+	 * no return value
+	 */
+	void allocated(long bytes) {
+		bytesAllocated.add(bytes);
+	}
+
+	/***
+	 * Method to record equals comparisons made while searching
+	 * @param count which contains the number of comparisons
+	 * no return value
+	 */
+	void compared(long count) {
+		equalsComparisons.add(count);
+	}
+
+	/***
+	 * Method to record links followed from one node to another
+	 * @param count which contains the number of nodes visited
+	 * no return value
+	 */
+	void traversed(long count) {
+		nodesTraversed.add(count);
+	}
+
+	/***
+	 * Method to record that an iterator or list iterator was created
+	 * no parameters
+	 * no return value
+	 */
+	void iteratorCreated() {
+		iteratorsCreated.increment();
+	}
+
+	public long getResizes() {
+		return resizes.sum();
+	}
+
+	public long getShrinks() {
+		return shrinks.sum();
+	}
+
+	public long getElementsCopied() {
+		return elementsCopied.sum();
+	}
+
+	public long getBytesAllocated() {
+		return bytesAllocated.sum();
+	}
+
+	public long getEqualsComparisons() {
+		return equalsComparisons.sum();
+	}
+
+	public long getNodesTraversed() {
+		return nodesTraversed.sum();
+	}
+
+	public long getIteratorsCreated() {
+		return iteratorsCreated.sum();
+	}
+
+	/***
+	 * Method to set every counter back to zero
+	 * no parameters
+	 * no return value
+	 */
+	public void reset() {
+		resizes.reset();
+		shrinks.reset();
+		elementsCopied.reset();
+		bytesAllocated.reset();
+		equalsComparisons.reset();
+		nodesTraversed.reset();
+		iteratorsCreated.reset();
+	}
+
+	/***
+	 * Method to read every counter at once
+	 * The counters are read one after the other, so updates made while reading may show in some and not others
+	 * no parameters
+	 * @return snapshot of the counters
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(name, getResizes(), getShrinks(), getElementsCopied(), getBytesAllocated(),
+				getEqualsComparisons(), getNodesTraversed(), getIteratorsCreated());
+	}
+
+	/***
+	 * Method to describe the counters of every list class
+	 * no parameters
+	 * @return one line per list class
+	 */
+	public static String report() {
+		StringBuilder output = new StringBuilder();
+		for (ListMetrics metrics : all()) {
+			output.append(metrics.snapshot()).append(System.lineSeparator());
+		}
+		return output.toString();
+	}
+
+	// Inner class with the values of the counters at one point in time
+	public static class Snapshot {
+		// data members
+		public final String name;
+		public final long resizes;
+		public final long shrinks;
+		public final long elementsCopied;
+		public final long bytesAllocated;
+		public final long equalsComparisons;
+		public final long nodesTraversed;
+		public final long iteratorsCreated;
+
+		Snapshot(String name, long resizes, long shrinks, long elementsCopied, long bytesAllocated,
+				long equalsComparisons, long nodesTraversed, long iteratorsCreated) {
+			this.name = name;
+			this.resizes = resizes;
+			this.shrinks = shrinks;
+			this.elementsCopied = elementsCopied;
+			this.bytesAllocated = bytesAllocated;
+			this.equalsComparisons = equalsComparisons;
+			this.nodesTraversed = nodesTraversed;
+			this.iteratorsCreated = iteratorsCreated;
+		}
+
+		/***
+		 * Method to compute the work done between an earlier snapshot and this one
+		 * @param earlier which contains the snapshot taken first
+		 * @return snapshot of the differences
+		 */
+		public Snapshot minus(Snapshot earlier) {
+			return new Snapshot(name, resizes - earlier.resizes, shrinks - earlier.shrinks, elementsCopied - earlier.elementsCopied,
+					bytesAllocated - earlier.bytesAllocated, equalsComparisons - earlier.equalsComparisons,
+					nodesTraversed - earlier.nodesTraversed, iteratorsCreated - earlier.iteratorsCreated);
+		}
+
+		public String toString() {
+			return String.format("%s: %d resizes (%d shrinks), %d elements copied, %d bytes allocated, %d equals comparisons, %d nodes traversed, %d iterators created",
+					name, resizes, shrinks, elementsCopied, bytesAllocated, equalsComparisons, nodesTraversed, iteratorsCreated);
+		}
+	}
+}
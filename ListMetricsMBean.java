@@ -0,0 +1,21 @@
+/***
+ * Class to model the interface ListMetricsMBean which is the JMX view of ListMetrics
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public interface ListMetricsMBean{
+
+    // read-only counters shown as attributes, reset is shown as an operation
+    public abstract long getResizes();
+    public abstract long getShrinks();
+    public abstract long getElementsCopied();
+    public abstract long getBytesAllocated();
+    public abstract long getEqualsComparisons();
+    public abstract long getNodesTraversed();
+    public abstract long getIteratorsCreated();
+    public abstract void reset();
+}
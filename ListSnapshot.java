@@ -0,0 +1,295 @@
+/***
+ * Class to model the class ListSnapshot which saves a List<String> to a compact binary file and loads it back
+ * The header holds the element count so the reader can presize, the body holds one varint tag per element:
+ * 0 for null, an odd tag for a back reference to a string seen before and an even tag for a new string
+ * whose UTF-8 bytes follow, every new string is added to the dictionary on both sides
+ * The body is streamed through a FileChannel in 64 KB chunks and covered by a CRC32C checksum
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.EOFException; // to report a file which ends early
+import java.io.IOException; // to use the io exception class
+import java.nio.ByteBuffer; // to stage the bytes between the list and the channel
+import java.nio.channels.FileChannel; // to stream the file
+import java.nio.charset.StandardCharsets; // to encode strings as UTF-8
+import java.nio.file.Path; // to name the file
+import java.nio.file.StandardOpenOption; // to open the file for reading or writing
+import java.util.Arrays; // to add the loaded elements in one batch
+import java.util.HashMap; // to find the strings already written
+import java.util.ListIterator; // to walk the list being saved
+import java.util.zip.CRC32C; // to checksum the body
+
+public class ListSnapshot {
+
+	// layout of the header: magic, version, element count, distinct strings, dictionary limit, checksum, body length
+	private static final int MAGIC = 0x4C534E50; // "LSNP"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+	private static final int BUFFER_SIZE = 1 << 16;
+	// the dictionary stops growing at this many strings so saving a list of unique strings stays bounded
+	private static final int DICTIONARY_LIMIT = 1 << 20;
+	private static final long NULL_TAG = 0;
+
+	private ListSnapshot() {
+	}
+
+	/***
+	 * Method to save the elements of a list to a snapshot file, replacing the file if it exists
+	 * @param list which contains the elements to save, null elements are allowed
+	 * @param file which is the snapshot file
+	 * @return number of bytes written
+	 */
+	public static long write(List<String> list, Path file) throws IOException { // O(n)
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.position(HEADER_SIZE);
+			Encoder out = new Encoder(channel);
+			HashMap<String, Integer> dictionary = new HashMap<>();
+			int count = 0;
+			ListIterator<String> it = list.listIterator();
+			while (it.hasNext()) {
+				String item = it.next();
+				count++;
+				if (item == null) {
+					out.putVarint(NULL_TAG);
+					continue;
+				}
+				Integer id = dictionary.get(item);
+				if (id != null) {
+					out.putVarint(((long) id << 1) | 1);
+					continue;
+				}
+				if (dictionary.size() < DICTIONARY_LIMIT) {
+					dictionary.put(item, dictionary.size());
+				}
+				byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+				out.putVarint(((long) bytes.length + 1) << 1);
+				out.put(bytes);
+			}
+			out.flush();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(dictionary.size()).putInt(DICTIONARY_LIMIT)
+					.putInt((int) out.checksum.getValue()).putLong(out.length);
+			header.flip();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			return HEADER_SIZE + out.length;
+		}
+	}
+
+	/***
+	 * Method to load a snapshot file and add its elements to the end of a list
+	 * The file is checked completely before the list is touched, so a corrupt file leaves the list unchanged
+	 * @param file which is the snapshot file
+	 * @param list where the elements need to be added
+	 * @return number of elements added
+	 */
+	public static int read(Path file, List<String> list) throws IOException { // O(n)
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					throw new EOFException("Not a list snapshot: " + file);
+				}
+			}
+			header.flip();
+			if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+				throw new IOException("Not a list snapshot: " + file);
+			}
+			int count = header.getInt();
+			int distinct = header.getInt();
+			int limit = header.getInt();
+			int checksum = header.getInt();
+			long length = header.getLong();
+			// every element takes at least one tag byte and every dictionary string is also an element, so a
+			// corrupt header is rejected here before it can size the arrays below
+			if (count < 0 || distinct < 0 || count > length || distinct > Math.min(count, limit)
+					|| channel.size() != HEADER_SIZE + length) {
+				throw new IOException("Corrupt list snapshot: " + file);
+			}
+
+			String[] items = new String[count];
+			String[] dictionary = new String[distinct];
+			int known = 0;
+			Decoder in = new Decoder(channel, length);
+			for (int i = 0; i < count; i++) {
+				long tag = in.getVarint();
+				if (tag == NULL_TAG) {
+					continue;
+				}
+				if ((tag & 1) != 0) {
+					long id = tag >>> 1;
+					if (id >= known) {
+						throw new IOException("Corrupt list snapshot: " + file);
+					}
+					items[i] = dictionary[(int) id];
+					continue;
+				}
+				long bytes = (tag >>> 1) - 1;
+				if (bytes > Integer.MAX_VALUE) {
+					throw new IOException("Corrupt list snapshot: " + file);
+				}
+				items[i] = in.getString((int) bytes);
+				if (known < limit) {
+					if (known == distinct) {
+						throw new IOException("Corrupt list snapshot: " + file);
+					}
+					dictionary[known++] = items[i];
+				}
+			}
+			if (in.remaining() != 0 || (int) in.checksum.getValue() != checksum) {
+				throw new IOException("Corrupt list snapshot: " + file);
+			}
+			append(list, items);
+			return count;
+		}
+	}
+
+	/***
+	 * Method to add the loaded elements to the list, presized and in one batch when the list supports it
+	 * @param list where the elements need to be added
+	 * @param items which contains the loaded elements
+	 * no return value
+	 */
+	private static void append(List<String> list, String[] items) {
+		if (list instanceof ArrayList) {
+			ArrayList<String> arrayList = (ArrayList<String>) list;
+			arrayList.ensureCapacity(arrayList.size() + items.length);
+			arrayList.addAll(Arrays.asList(items));
+		} else {
+			for (String item : items) {
+				list.add(item);
+			}
+		}
+	}
+
+	// Inner class which stages the body in a buffer and writes it to the channel a chunk at a time
+	private static class Encoder {
+		// data members
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		private final CRC32C checksum = new CRC32C();
+		private long length = 0;
+
+		Encoder(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		void putVarint(long value) throws IOException {
+			if (buffer.remaining() < 10) {
+				flush();
+			}
+			while ((value & ~0x7FL) != 0) {
+				buffer.put((byte) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			buffer.put((byte) value);
+		}
+
+		void put(byte[] bytes) throws IOException {
+			int offset = 0;
+			while (offset < bytes.length) {
+				if (!buffer.hasRemaining()) {
+					flush();
+				}
+				int n = Math.min(bytes.length - offset, buffer.remaining());
+				buffer.put(bytes, offset, n);
+				offset += n;
+			}
+		}
+
+		void flush() throws IOException {
+			buffer.flip();
+			checksum.update(buffer.array(), 0, buffer.limit());
+			length += buffer.limit();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+
+	// Inner class which reads the body from the channel a chunk at a time and checksums it on the way
+	private static class Decoder {
+		// data members
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		private final CRC32C checksum = new CRC32C();
+		private long unread; // bytes of the body not read from the channel yet
+
+		Decoder(FileChannel channel, long length) {
+			this.channel = channel;
+			this.unread = length;
+			buffer.limit(0);
+		}
+
+		long getVarint() throws IOException {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				if (!buffer.hasRemaining()) {
+					fill(1);
+				}
+				byte b = buffer.get();
+				value |= (long) (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+			throw new IOException("Corrupt list snapshot: varint too long");
+		}
+
+		String getString(int length) throws IOException {
+			if (length <= buffer.capacity()) {
+				if (buffer.remaining() < length) {
+					fill(length);
+				}
+				String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + length);
+				return value;
+			}
+			byte[] bytes = new byte[length]; // longer than the buffer, copied out a chunk at a time
+			int offset = 0;
+			while (offset < length) {
+				if (!buffer.hasRemaining()) {
+					fill(1);
+				}
+				int n = Math.min(length - offset, buffer.remaining());
+				buffer.get(bytes, offset, n);
+				offset += n;
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		long remaining() {
+			return buffer.remaining() + unread;
+		}
+
+		// keeps the unread bytes of the buffer and reads until at least needed bytes are available
+		private void fill(int needed) throws IOException {
+			buffer.compact();
+			while (buffer.position() < needed) {
+				if (unread == 0) {
+					throw new EOFException("Corrupt list snapshot: body ends early");
+				}
+				int start = buffer.position();
+				if (buffer.remaining() > unread) {
+					buffer.limit(start + (int) unread);
+				}
+				int n = channel.read(buffer);
+				if (n < 0) {
+					throw new EOFException("Corrupt list snapshot: body ends early");
+				}
+				checksum.update(buffer.array(), start, n);
+				unread -= n;
+				buffer.limit(buffer.capacity());
+			}
+			buffer.flip();
+		}
+	}
+}
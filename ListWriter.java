@@ -0,0 +1,137 @@
+/***
+ * Class to model the class ListWriter which renders list elements into an Appendable in fixed size chunks
+ * Text is copied into one reusable char buffer and handed to the target a chunk at a time, so printing
+ * a large list costs one call per chunk instead of one per element
+ * A StringBuilder target is appended to directly since it is already a buffer
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.Flushable; // to flush the target after writing
+import java.io.IOException; // thrown by the target
+import java.io.UncheckedIOException; // to report an impossible failure of a StringBuilder
+import java.io.Writer; // to write the buffer without wrapping it
+import java.nio.CharBuffer; // to hand the buffer to other appendables
+
+final class ListWriter {
+
+	static final int CHUNK = 8192; // chars buffered before they are handed to the target
+	private static final int MAX_PRESIZE = 1 << 24; // largest builder toString will reserve up front
+
+	// Data members
+	private final Appendable out;
+	private final char[] buffer; // null when out is a StringBuilder
+	private int count;
+
+	/***
+	 * Constructor for ListWriter class
+	 * @param out which is the target the text is written to
+	 */
+	ListWriter(Appendable out) {
+		this.out = out;
+		this.buffer = (out instanceof StringBuilder) ? null : new char[CHUNK];
+	}
+
+	/***
+	 * Method to append the text of an item
+	 * @param item which contains the item, null is written as null
+	 * @return this writer
+	 */
+	ListWriter append(Object item) throws IOException { // O(length)
+		return append(String.valueOf(item));
+	}
+
+	/***
+	 * Method to append a string, handing the buffer to the target each time it fills up
+	 * @param text which contains the string to append
+	 * @return this writer
+	 */
+	ListWriter append(String text) throws IOException { // O(length)
+		if (buffer == null) {
+			((StringBuilder) out).append(text);
+			return this;
+		}
+		int length = text.length();
+		int offset = 0;
+		while (offset < length) {
+			if (count == buffer.length) {
+				drain();
+			}
+			int n = Math.min(length - offset, buffer.length - count);
+			text.getChars(offset, offset + n, buffer, count);
+			count += n;
+			offset += n;
+		}
+		return this;
+	}
+
+	/***
+	 * Method to append a single character
+	 * @param c which contains the character to append
+	 * @return this writer
+	 */
+	ListWriter append(char c) throws IOException { // O(1)
+		if (buffer == null) {
+			((StringBuilder) out).append(c);
+			return this;
+		}
+		if (count == buffer.length) {
+			drain();
+		}
+		buffer[count++] = c;
+		return this;
+	}
+
+	/***
+	 * Method to hand whatever is buffered to the target
+	 * no parameters
+	 * no return value
+	 */
+	void finish() throws IOException { // O(count)
+		if (buffer != null && count > 0) {
+			drain();
+		}
+	}
+
+	/***
+	 * Method to hand whatever is buffered to the target and flush the target when it can be flushed
+	 * no parameters
+	 * no return value
+	 */
+	void flush() throws IOException { // O(count)
+		finish();
+		if (out instanceof Flushable) {
+			((Flushable) out).flush();
+		}
+	}
+
+	private void drain() throws IOException {
+		if (out instanceof Writer) {
+			((Writer) out).write(buffer, 0, count);
+		} else {
+			out.append(CharBuffer.wrap(buffer, 0, count));
+		}
+		count = 0;
+	}
+
+	/***
+	 * Method to render a list into a string builder presized from the first element
+	 * @param list which contains the list to render with its appendTo method
+	 * @param sample which contains the first element, or null for an empty list
+	 * @return the rendered list
+	 */
+	static String render(List<?> list, Object sample) { // O(n)
+		long estimate = 2 + (long) list.size() * (String.valueOf(sample).length() + 2);
+		StringBuilder output = new StringBuilder((int) Math.min(estimate, MAX_PRESIZE));
+		try {
+			list.appendTo(output);
+		}
+		catch (IOException e) { // a StringBuilder never throws
+			throw new UncheckedIOException(e);
+		}
+		return output.toString();
+	}
+}
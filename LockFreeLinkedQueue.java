@@ -0,0 +1,297 @@
+/***
+ * Class to model the class LockFreeLinkedQueue which is a lock-free multi-producer multi-consumer queue
+ * Michael-Scott queue: a singly linked list with a dummy head node, where producers CAS the next
+ * reference of the tail and consumers CAS the head, so no thread ever blocks another
+ * Replaces a LinkedList used as a work queue (addLast to produce, getFirst + removeFirst to consume)
+ * behind a synchronized block
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.lang.invoke.MethodHandles; // to look up the var handles
+import java.lang.invoke.VarHandle; // to CAS the node references without an atomic object per node
+import java.util.Iterator; // to use the iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class LockFreeLinkedQueue<E> {
+
+	// Data members, head is a dummy node whose successor holds the first element
+	private volatile Node<E> head;
+	private volatile Node<E> tail;
+
+	// Inner class node
+	private static class Node<E> {
+		// Data members
+		volatile E value;
+		volatile Node<E> next;
+
+		/***
+		 * Constructor for inner Node class
+		 * @param initialValue for initial value of the node
+		 */
+		Node(E initialValue) {
+			value = initialValue;
+		}
+	}
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", Node.class);
+			TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/***
+	 * Default constructor for LockFreeLinkedQueue class
+	 * Initialises head and tail to the same dummy node
+	 */
+	public LockFreeLinkedQueue() {
+		head = tail = new Node<>(null);
+	}
+
+	/***
+	 * Method to add an item at the end of the queue, never blocks
+	 * @param item which contains the item that needs to be added, must not be null
+	 * @return true
+	 */
+	public boolean offer(E item) { // O(1), lock-free
+		if (item == null) {
+			throw new NullPointerException();
+		}
+		Node<E> newNode = new Node<>(item);
+		while (true) {
+			Node<E> t = tail;
+			Node<E> next = t.next;
+			if (next == t) {
+				// the tail node was already unlinked by a consumer, restart from the head
+				TAIL.compareAndSet(this, t, head);
+			} else if (t != tail) {
+				continue;
+			} else if (next == null) {
+				if (NEXT.compareAndSet(t, null, newNode)) {
+					TAIL.compareAndSet(this, t, newNode); // fine to fail, someone else moved it
+					return true;
+				}
+			} else {
+				TAIL.compareAndSet(this, t, next); // helps a producer which has not moved the tail yet
+			}
+		}
+	}
+
+	/***
+	 * Method to add an item at the end of the queue, same as offer
+	 * @param item which contains the item that needs to be added
+	 * @return true
+	 */
+	public boolean addLast(E item) { // O(1), lock-free
+		return offer(item);
+	}
+
+	/***
+	 * Method to remove and return the first item of the queue, never blocks
+	 * no parameters
+	 * @return first item, or null if the queue is empty
+	 */
+	public E poll() { // O(1), lock-free
+		while (true) {
+			Node<E> h = head;
+			Node<E> t = tail;
+			Node<E> next = h.next;
+			if (h != head) {
+				continue;
+			}
+			if (next == null) {
+				return null;
+			}
+			if (h == t) {
+				TAIL.compareAndSet(this, t, next); // the tail is behind, help it along first
+				continue;
+			}
+			E value = next.value;
+			if (HEAD.compareAndSet(this, h, next)) {
+				next.value = null; // next is the new dummy node
+				NEXT.setRelease(h, h); // links the old head to itself so it does not keep the chain alive
+				return value;
+			}
+		}
+	}
+
+	/***
+	 * Method to return the first item of the queue without removing it
+	 * no parameters
+	 * @return first item, or null if the queue is empty
+	 */
+	public E peek() { // O(1)
+		while (true) {
+			Node<E> h = head;
+			Node<E> next = h.next;
+			if (next == null) {
+				return null;
+			}
+			E value = next.value;
+			if (h == head && value != null) {
+				return value;
+			}
+		}
+	}
+
+	/***
+	 * Method to move up to max items from the queue into a list
+	 * Claims the whole batch with a single CAS of the head, then links every drained node but the new head to itself
+	 * @param list where the items have to be added, in queue order
+	 * @param max which contains the largest number of items to move
+	 * @return number of items moved
+	 */
+	public int drainTo(List<? super E> list, int max) { // O(k)
+		if (max <= 0) {
+			return 0;
+		}
+		while (true) {
+			Node<E> h = head;
+			Node<E> last = h;
+			int count = 0;
+			while (count < max) {
+				Node<E> next = last.next;
+				if (next == null) {
+					break;
+				}
+				if (next == last) { // h was unlinked while walking
+					count = -1;
+					break;
+				}
+				last = next;
+				count++;
+			}
+			if (count < 0 || h != head) {
+				continue;
+			}
+			if (count == 0) {
+				return 0;
+			}
+			if (HEAD.compareAndSet(this, h, last)) {
+				// the nodes after h up to last now belong to this thread only
+				Node<E> p = h.next;
+				while (p != last) {
+					list.add(p.value);
+					p.value = null;
+					Node<E> next = p.next;
+					NEXT.setRelease(p, p); // like h, so a reader holding p does not keep the chain alive
+					p = next;
+				}
+				list.add(last.value);
+				last.value = null;
+				NEXT.setRelease(h, h);
+				return count;
+			}
+		}
+	}
+
+	/***
+	 * Method to move every item from the queue into a list
+	 * @param list where the items have to be added, in queue order
+	 * @return number of items moved
+	 */
+	public int drainTo(List<? super E> list) { // O(k)
+		return drainTo(list, Integer.MAX_VALUE);
+	}
+
+	/***
+	 * Method to check if the queue is empty
+	 * no parameters
+	 * @return true if it is empty at the moment of the call
+	 */
+	public boolean isEmpty() { // O(1)
+		return peek() == null;
+	}
+
+	/***
+	 * Method to count the items of the queue
+	 * Not atomic, concurrent offers and polls may or may not be counted
+	 * no parameters
+	 * @return number of items seen while walking the queue
+	 */
+	public int size() { // O(n)
+		int count = 0;
+		Iterator<E> it = iterator();
+		while (it.hasNext() && count < Integer.MAX_VALUE) {
+			it.next();
+			count++;
+		}
+		return count;
+	}
+
+	/***
+	 * Method to generate a weakly consistent iterator for the queue
+	 * It never throws ConcurrentModificationException and sees some of the concurrent changes
+	 * no parameters
+	 * @return QueueIterator
+	 */
+	public Iterator<E> iterator() {
+		return new QueueIterator();
+	}
+
+	// Inner iterator class which walks the live nodes
+	private class QueueIterator implements Iterator<E> {
+		// data members, the node and value returned by the next call to next()
+		private Node<E> nextNode;
+		private E nextValue;
+
+		/***
+		 * Default constructor for the iterator class
+		 * Finds the first live node
+		 */
+		private QueueIterator() {
+			advance(head);
+		}
+
+		/***
+		 * Method to move to the first node after p which still holds a value
+		 * @param p which contains the node to move from
+		 * no return value
+		 */
+		private void advance(Node<E> p) {
+			while (true) {
+				Node<E> next = p.next;
+				if (next == null) {
+					nextNode = null;
+					nextValue = null;
+					return;
+				}
+				if (next == p) { // p was unlinked, continue from the current head
+					p = head;
+					continue;
+				}
+				E value = next.value;
+				if (value != null) {
+					nextNode = next;
+					nextValue = value;
+					return;
+				}
+				p = next;
+			}
+		}
+
+		public boolean hasNext() {
+			return nextNode != null;
+		}
+
+		public E next() {
+			if (nextNode == null) {
+				throw new NoSuchElementException();
+			}
+			E value = nextValue;
+			advance(nextNode);
+			return value;
+		}
+	}
+}
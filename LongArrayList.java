@@ -0,0 +1,420 @@
+/***
+ * Class to model the class LongArrayList which is a list of long values and implements the interface List<Long>
+ * Stores the values in a long[] so they are never boxed on the non-boxing methods
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to use the bulk array copy methods
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+import java.util.PrimitiveIterator; // to iterate without boxing
+import java.util.function.LongConsumer; // to consume values without boxing
+
+public class LongArrayList implements List<Long>{
+	// data members
+	private long[] elements;
+	private int size;
+
+	/***
+	 * Default constructor
+	 * No parameters
+	 * Initializes elements to a default size of 10
+	 */
+	public LongArrayList() {
+		this(10);
+	}
+
+	/***
+	 * Constructor for LongArrayList class
+	 * @param capacity which contains the capacity the list should have
+	 * Gives data member elements that specific capacity
+	 * Initialises data member size to 0
+	 */
+	public LongArrayList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		elements = new long[capacity];
+		size = 0;
+	}
+
+	/***
+	 * Method to add a boxed item, required by the List interface
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(Long item) {
+		return addLong(unbox(item));
+	}
+
+	/***
+	 * Method to add a boxed item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, Long item) { // O(n)
+		return addLong(index, unbox(item));
+	}
+
+	/***
+	 * Method to get a boxed item at the specific index
+	 * @param index from where item has to be retrieved
+	 * @return item at that particular index
+	 */
+	public Long get(int index) { // O(1)
+		return getLong(index);
+	}
+
+	/***
+	 * Method to set a boxed item at the specific index
+	 * @param index where item has to be set
+	 * @param item which contains the item that has to be set
+	 * @return item that used to be at that particular index
+	 */
+	public Long set(int index, Long item) { // O(1)
+		return setLong(index, unbox(item));
+	}
+
+	/***
+	 * Method to unbox an item, the list stores long values so it cannot hold null
+	 * @param item which contains the boxed item
+	 * @return the long value
+	 */
+	private static long unbox(Long item) {
+		if (item == null) {
+			throw new IllegalArgumentException("LongArrayList cannot hold null");
+		}
+		return item;
+	}
+
+	/***
+	 * Method to add a value at the end of the list without boxing
+	 * @param value which contains the value that needs to be added
+	 * @return true if added
+	 */
+	public boolean addLong(long value) { // O(1) amortized
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+		elements[size++] = value;
+		return true;
+	}
+
+	/***
+	 * Method to add a value at the specific index without boxing
+	 * @param index where value has to be added
+	 * @param value which contains the value that needs to be added
+	 * @return true if added
+	 */
+	public boolean addLong(int index, long value) { // O(n)
+		if (index > size || index < 0) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to get a value at the specific index without boxing
+	 * @param index from where value has to be retrieved
+	 * @return value at that particular index
+	 */
+	public long getLong(int index) { // O(1)
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/***
+	 * Method to set a value at the specific index without boxing
+	 * @param index where value has to be set
+	 * @param value which contains the value that has to be set
+	 * @return value that used to be at that particular index
+	 */
+	public long setLong(int index, long value) { // O(1)
+		checkIndex(index);
+		long oldValue = elements[index];
+		elements[index] = value;
+		return oldValue;
+	}
+
+	/***
+	 * Method to remove the value at index from the list
+	 * @param index from where the value has to be removed
+	 * @return value which has been removed
+	 */
+	public long remove(int index) { // O(n)
+		checkIndex(index);
+		long value = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		return value;
+	}
+
+	/***
+	 * Method to remove the first occurrence of a value from the list
+	 * @param value which has to be removed
+	 * @return true if it has been removed
+	 */
+	public boolean removeValue(long value) { // O(n)
+		int index = indexOf(value);
+		if (index < 0) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/***
+	 * Method to find the first index of a value
+	 * @param value which needs to be found
+	 * @return index of the value, or -1 if it is not in the list
+	 */
+	public int indexOf(long value) { // O(n)
+		for (int i = 0; i < size; i++) {
+			if (elements[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/***
+	 * Method to check if a value is there in the list
+	 * @param value which needs to be checked
+	 * @return true if it is in the list, false if it isn't
+	 */
+	public boolean contains(long value) { // O(n)
+		return indexOf(value) >= 0;
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/***
+	 * Method to clear list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() {
+		return (size == 0);
+	}
+
+	/***
+	 * Method to trim the list to the accurate size
+	 * no parameters
+	 * no return value
+	 */
+	public void trimToSize() { // O(n)
+		if (size != elements.length) {
+			elements = Arrays.copyOf(elements, size);
+		}
+	}
+
+	/***
+	 * Method to grow the list so it can hold at least minCapacity values
+	 * @param minCapacity which contains the number of values the list must be able to hold
+	 * no return value
+	 */
+	public void ensureCapacity(int minCapacity) { // O(n)
+		if (minCapacity > elements.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/***
+	 * Method to replace elements with a bigger array in a single block copy
+	 * @param minCapacity which contains the number of values the list must be able to hold
+	 * no return value
+	 */
+	private void grow(int minCapacity) { // O(n)
+		int newCap = Math.max(minCapacity, elements.length + (elements.length >> 1));
+		elements = Arrays.copyOf(elements, newCap);
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * no return value
+	 */
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to pass every value of the list to a consumer without boxing
+	 * @param action which is called with every value in order
+	 * no return value
+	 */
+	public void forEach(LongConsumer action) { // O(n)
+		for (int i = 0; i < size; i++) {
+			action.accept(elements[i]);
+		}
+	}
+
+	/***
+	 * Method to copy the values into a new array
+	 * no parameters
+	 * @return array containing the values of the list
+	 */
+	public long[] toArray() { // O(n)
+		return Arrays.copyOf(elements, size);
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		StringBuilder output = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) output.append(", ");
+			output.append(elements[i]);
+		}
+		return output.append("]").toString();
+	}
+
+	/***
+	 * Method to generate an iterator which does not box the values
+	 * no parameters
+	 * @return LongArrayListIterator
+	 */
+	public PrimitiveIterator.OfLong iterator() {
+		return new LongArrayListIterator();
+	}
+
+	/***
+	 * Method to generate a list iterator for the list, values are boxed
+	 * no parameters
+	 * @return LongArrayListListIterator
+	 */
+	public ListIterator<Long> listIterator() {
+		return new LongArrayListListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return LongArrayListListIterator
+	 */
+	public ListIterator<Long> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new LongArrayListListIterator(index);
+	}
+
+	// Inner class that implements PrimitiveIterator.OfLong
+	private class LongArrayListIterator implements PrimitiveIterator.OfLong {
+		// data member
+		private int current = 0;
+
+		/***
+		 * Method to check if list has another next value
+		 * no parameters
+		 * @return true if it does, false if it doesn't
+		 */
+		public boolean hasNext() {
+			return current < size;
+		}
+
+		/***
+		 * Method to return next value in the list without boxing
+		 * no parameters
+		 * @return the next value
+		 */
+		public long nextLong() {
+			if (current >= size) {
+				throw new NoSuchElementException();
+			}
+			return elements[current++];
+		}
+	}
+
+	// Inner list iterator class which implements ListIterator of the boxed type
+	private class LongArrayListListIterator implements ListIterator<Long> {
+		// data member, index of the value returned by the next call to next()
+		private int cursor;
+
+		/***
+		 * Constructor for the list iterator class
+		 * @param index which contains the position the iterator starts at
+		 * Initialises data member cursor
+		 */
+		private LongArrayListListIterator(int index) {
+			cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		public Long next() {
+			if (cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			return elements[cursor++];
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public Long previous() {
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			return elements[--cursor];
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		/***
+		 * Methods which change the list through the iterator
+		 * throw unsupported operation exception, like ArrayListIterator
+		 */
+		public void set(Long e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(Long e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,524 @@
+/***
+ * Class to model the class MappedList which is a generic class and implements the interface List<E>
+ * Stores the elements in memory-mapped files so a list can be reopened without parsing
+ * The index file holds a header and the end offset of every element, the data file holds the encoded elements
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.Closeable; // to release the files
+import java.io.IOException; // to use the io exception class
+import java.io.UncheckedIOException; // to report io errors from add
+import java.nio.ByteBuffer; // to decode the elements
+import java.nio.MappedByteBuffer; // to map the files
+import java.nio.channels.FileChannel; // to open and map the files
+import java.nio.charset.StandardCharsets; // to encode strings as UTF-8
+import java.nio.file.Files; // to check the existing files
+import java.nio.file.Path; // to name the files
+import java.nio.file.StandardOpenOption; // to open the files for reading and writing
+import java.util.Arrays; // to grow the chunk array
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class MappedList<E> implements List<E>, Closeable{
+
+	// layout of the index file: magic, version, element count, then one end offset per element
+	private static final int MAGIC = 0x4D4C5354; // "MLST"
+	private static final int VERSION = 1;
+	private static final long COUNT_OFFSET = 8;
+	private static final long OFFSETS_START = 16;
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 26; // 64 MB
+	private static final int MIN_MAPPING = 1 << 12; // first mapping of a new file, grown by doubling up to a chunk
+
+	// data members
+	private final Codec<E> codec;
+	private final Region index;
+	private final Region data;
+	private int size;
+	private long dataEnd;
+	private boolean closed;
+
+	/***
+	 * Interface which encodes an element to bytes and decodes it straight from the mapping
+	 */
+	public interface Codec<E> {
+		public abstract byte[] encode(E item);
+		public abstract E decode(ByteBuffer buffer, int offset, int length);
+	}
+
+	// codec for strings stored as UTF-8
+	public static final Codec<String> STRINGS = new Codec<String>() {
+		public byte[] encode(String item) {
+			return item.getBytes(StandardCharsets.UTF_8);
+		}
+
+		public String decode(ByteBuffer buffer, int offset, int length) {
+			byte[] bytes = new byte[length];
+			buffer.get(offset, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/***
+	 * Constructor for MappedList class, use open to create one
+	 * The last chunk of a file is mapped only as far as needed, starting at 4 KB and doubling, so a small
+	 * list does not extend its files to a whole chunk
+	 * @param base which contains the path the .idx and .dat files are named after
+	 * @param codec which encodes and decodes the elements
+	 * @param chunkSize which contains the size of every mapped chunk in bytes
+	 */
+	private MappedList(Path base, Codec<E> codec, int chunkSize) throws IOException {
+		Path indexFile = base.resolveSibling(base.getFileName() + ".idx");
+		checkHeader(indexFile);
+		this.codec = codec;
+		this.index = new Region(indexFile, chunkSize);
+		Region data = null;
+		try {
+			data = new Region(base.resolveSibling(base.getFileName() + ".dat"), chunkSize);
+			if (index.fileSize == 0) {
+				index.ensure(OFFSETS_START);
+				index.putInt(0, MAGIC);
+				index.putInt(4, VERSION);
+				index.putLong(COUNT_OFFSET, 0);
+			}
+		}
+		// releases the files opened so far, a half constructed list is never returned to close them
+		catch (IOException | RuntimeException e) {
+			index.release();
+			if (data != null) {
+				data.release();
+			}
+			throw e;
+		}
+		this.data = data;
+		long count = index.getLong(COUNT_OFFSET);
+		size = (int) count;
+		dataEnd = size == 0 ? 0 : endOffset(size - 1);
+	}
+
+	/***
+	 * Method to open a mapped list, creating the files if they do not exist
+	 * Reopening only maps the files and reads the header, it does not parse the elements
+	 * @param base which contains the path the .idx and .dat files are named after
+	 * @param codec which encodes and decodes the elements
+	 * @return the mapped list
+	 */
+	public static <E> MappedList<E> open(Path base, Codec<E> codec) throws IOException { // O(1)
+		return new MappedList<>(base, codec, DEFAULT_CHUNK_SIZE);
+	}
+
+	/***
+	 * Method to open a mapped list with a specific chunk size
+	 * @param base which contains the path the .idx and .dat files are named after
+	 * @param codec which encodes and decodes the elements
+	 * @param chunkSize which contains the size of every mapped chunk, a multiple of 8
+	 * @return the mapped list
+	 */
+	public static <E> MappedList<E> open(Path base, Codec<E> codec, int chunkSize) throws IOException { // O(1)
+		if (chunkSize <= 0 || chunkSize % 8 != 0) {
+			throw new IllegalArgumentException("Chunk size must be a positive multiple of 8: " + chunkSize);
+		}
+		return new MappedList<>(base, codec, chunkSize);
+	}
+
+	/***
+	 * Method to append an item, which extends the files when needed
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean add(E item) { // O(1) amortized
+		checkOpen();
+		if (size == Integer.MAX_VALUE) {
+			throw new IllegalStateException("MappedList is full");
+		}
+		byte[] bytes = codec.encode(item);
+		try {
+			long newEnd = dataEnd + bytes.length;
+			long offsetPosition = OFFSETS_START + (long) size * Long.BYTES;
+			data.ensure(newEnd);
+			index.ensure(offsetPosition + Long.BYTES);
+			data.put(dataEnd, bytes);
+			index.putLong(offsetPosition, newEnd);
+			// the count is written last so a reader never sees a half written element
+			index.putLong(COUNT_OFFSET, size + 1);
+			dataEnd = newEnd;
+			size++;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return true;
+	}
+
+	/***
+	 * Method to get an item at the specific index, decoded straight from the mapping
+	 * @param index from where item has to be retrieved
+	 * @return element at that particular index
+	 */
+	public E get(int index) { // O(1)
+		checkOpen();
+		checkIndex(index);
+		long start = index == 0 ? 0 : endOffset(index - 1);
+		long end = endOffset(index);
+		return data.decode(codec, start, (int) (end - start));
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() {
+		return (size == 0);
+	}
+
+	/***
+	 * Method to clear the list, the files keep their space for the next appends
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() {
+		checkOpen();
+		index.putLong(COUNT_OFFSET, 0);
+		size = 0;
+		dataEnd = 0;
+	}
+
+	/***
+	 * Method to write the mapped pages back to the files
+	 * no parameters
+	 * no return value
+	 */
+	public void force() {
+		checkOpen();
+		data.force();
+		index.force();
+	}
+
+	/***
+	 * Method to flush the list, trim the files to the bytes in use and close them
+	 * no parameters
+	 * no return value
+	 */
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			data.close(dataEnd);
+		} finally {
+			index.close(OFFSETS_START + (long) size * Long.BYTES);
+		}
+	}
+
+	/***
+	 * Method to check that an existing index file was written by MappedList, before it is mapped
+	 * @param indexFile which contains the index file
+	 * no return value
+	 */
+	private static void checkHeader(Path indexFile) throws IOException {
+		if (!Files.exists(indexFile) || Files.size(indexFile) == 0) {
+			return;
+		}
+		ByteBuffer header = ByteBuffer.allocate(8);
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			channel.read(header, 0);
+		}
+		if (header.position() < 8 || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+			throw new IOException("Not a MappedList index file: " + indexFile);
+		}
+	}
+
+	private long endOffset(int index) {
+		return this.index.getLong(OFFSETS_START + (long) index * Long.BYTES);
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * no return value
+	 */
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	private void checkOpen() {
+		if (closed) {
+			throw new IllegalStateException("MappedList is closed");
+		}
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return MappedListIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new MappedListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return MappedListIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new MappedListIterator(index);
+	}
+
+	// Inner list iterator class which decodes the elements as it moves
+	private class MappedListIterator implements ListIterator<E> {
+		// data member, index of the element returned by the next call to next()
+		private int cursor;
+
+		private MappedListIterator(int index) {
+			cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		public E next() {
+			if (cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			return get(cursor++);
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public E previous() {
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			return get(--cursor);
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	// Inner class for a file which is mapped in fixed size chunks, so it can grow past 2 GB
+	// every chunk but the last is mapped whole, the last one only as far as the file is used
+	private static class Region {
+		// data members
+		private final FileChannel channel;
+		private final int chunkSize;
+		private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+		private long mapped; // number of bytes covered by the chunks
+		private java.util.List<MappedByteBuffer> superseded = new java.util.ArrayList<>(); // remapped last chunks
+		private final long fileSize;
+
+		/***
+		 * Constructor for inner Region class, maps every chunk the file already has
+		 * @param file which contains the file to map
+		 * @param chunkSize which contains the size of every mapped chunk
+		 */
+		Region(Path file, int chunkSize) throws IOException {
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.chunkSize = chunkSize;
+			try {
+				this.fileSize = channel.size();
+				if (fileSize > 0) {
+					ensure(fileSize);
+				}
+			} catch (IOException | RuntimeException e) {
+				release();
+				throw e;
+			}
+		}
+
+		/***
+		 * Method to map chunks until the region covers end bytes, which extends the file
+		 * The last chunk is remapped with at least twice its length so a growing file is remapped
+		 * O(log chunkSize) times before the chunk is whole
+		 * @param end which contains the number of bytes the region must cover
+		 * no return value
+		 */
+		void ensure(long end) throws IOException {
+			if (end <= mapped) {
+				return;
+			}
+			int count = chunks.length;
+			int needed = (int) ((end + chunkSize - 1) / chunkSize);
+			if (needed > count) {
+				chunks = Arrays.copyOf(chunks, needed);
+			}
+			int first = count > 0 && chunks[count - 1].capacity() < chunkSize ? count - 1 : count;
+			for (int i = first; i < needed; i++) {
+				long start = (long) i * chunkSize;
+				int length = chunkSize;
+				if (i == needed - 1) { // the chunk holding end
+					int current = i < count ? chunks[i].capacity() : 0;
+					long grown = Math.max(Math.max(end - start, 2L * current), MIN_MAPPING);
+					length = (int) Math.min(chunkSize, Long.highestOneBit(grown - 1) << 1);
+				}
+				MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, start, length);
+				if (i < count) {
+					superseded.add(chunks[i]); // a decoded element may still point into it, so it is unmapped on close
+				}
+				chunks[i] = chunk;
+				mapped = start + length;
+			}
+		}
+
+		int getInt(long position) {
+			return chunks[(int) (position / chunkSize)].getInt((int) (position % chunkSize));
+		}
+
+		void putInt(long position, int value) {
+			chunks[(int) (position / chunkSize)].putInt((int) (position % chunkSize), value);
+		}
+
+		// longs are 8 byte aligned and chunks are a multiple of 8, so a long never spans two chunks
+		long getLong(long position) {
+			return chunks[(int) (position / chunkSize)].getLong((int) (position % chunkSize));
+		}
+
+		void putLong(long position, long value) {
+			chunks[(int) (position / chunkSize)].putLong((int) (position % chunkSize), value);
+		}
+
+		/***
+		 * Method to copy bytes into the region, possibly across two or more chunks
+		 * @param position which contains the byte position to write at
+		 * @param bytes which contains the bytes to write
+		 * no return value
+		 */
+		void put(long position, byte[] bytes) {
+			int written = 0;
+			while (written < bytes.length) {
+				int chunk = (int) (position / chunkSize);
+				int offset = (int) (position % chunkSize);
+				int length = Math.min(bytes.length - written, chunkSize - offset);
+				chunks[chunk].put(offset, bytes, written, length);
+				written += length;
+				position += length;
+			}
+		}
+
+		/***
+		 * Method to decode an element, straight from the mapping when it lies within one chunk
+		 * @param codec which decodes the element
+		 * @param position which contains the byte position of the element
+		 * @param length which contains the encoded length of the element
+		 * @return the decoded element
+		 */
+		<E> E decode(Codec<E> codec, long position, int length) {
+			int chunk = (int) (position / chunkSize);
+			int offset = (int) (position % chunkSize);
+			if (offset + length <= chunkSize) {
+				return codec.decode(chunks[chunk], offset, length);
+			}
+			byte[] bytes = new byte[length];
+			int read = 0;
+			while (read < length) {
+				chunk = (int) (position / chunkSize);
+				offset = (int) (position % chunkSize);
+				int part = Math.min(length - read, chunkSize - offset);
+				chunks[chunk].get(offset, bytes, read, part);
+				read += part;
+				position += part;
+			}
+			return codec.decode(ByteBuffer.wrap(bytes), 0, length);
+		}
+
+		void force() {
+			for (MappedByteBuffer chunk : chunks) {
+				chunk.force();
+			}
+		}
+
+		/***
+		 * Method to flush the chunks, unmap them, trim the file and close it
+		 * @param used which contains the number of bytes in use
+		 * no return value
+		 */
+		void close(long used) throws IOException {
+			try {
+				force();
+				unmap();
+				channel.truncate(used);
+			} finally {
+				channel.close();
+			}
+		}
+
+		/***
+		 * Method to unmap the chunks and close the file without flushing or trimming it
+		 * no parameters
+		 * no return value
+		 */
+		void release() {
+			unmap();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// nothing was written that could be lost, the original failure is reported instead
+			}
+		}
+
+		/***
+		 * Method to unmap the chunks and the mappings they replaced right away instead of when they are garbage
+		 * collected, so the file can be truncated without live mappings past its end, on JVMs without
+		 * Unsafe.invokeCleaner the chunks are only dropped
+		 * no parameters
+		 * no return value
+		 */
+		private void unmap() {
+			java.util.List<MappedByteBuffer> old = superseded;
+			old.addAll(Arrays.asList(chunks));
+			chunks = new MappedByteBuffer[0];
+			superseded = new java.util.ArrayList<>();
+			mapped = 0;
+			try {
+				Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				java.lang.reflect.Field field = unsafeClass.getDeclaredField("theUnsafe");
+				field.setAccessible(true);
+				java.lang.reflect.Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				Object unsafe = field.get(null);
+				for (MappedByteBuffer chunk : old) {
+					invokeCleaner.invoke(unsafe, chunk);
+				}
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// the mappings are released by the garbage collector instead
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/***
+ * Class to benchmark the node pool of LinkedList and DoublyLinkedList under addLast/removeFirst churn
+ * The allocation columns show how many bytes per operation the pool saves
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public class NodePoolBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional queue depths, for example 16 1024
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] depths = {16, 1_024};
+		if (args.length > 0) {
+			depths = new int[args.length];
+			for (int i = 0; i < args.length; i++) depths[i] = Integer.parseInt(args[i]);
+		}
+		int operations = 1_000_000;
+		Integer item = 42;
+		ListBenchmark.printHeader();
+		for (int depth : depths) {
+			String params = "depth/" + depth;
+			for (int poolCapacity : new int[] {0, depth}) {
+				String suffix = poolCapacity == 0 ? ".noPool" : ".pool";
+				LinkedList<?>[] last = new LinkedList<?>[1];
+				ListBenchmark.run("LinkedList.churn" + suffix, params, () -> {
+					LinkedList<Integer> list = new LinkedList<>();
+					list.enableNodePool(poolCapacity);
+					for (int i = 0; i < depth; i++) list.addLast(item);
+					last[0] = list;
+					return list;
+				}, list -> {
+					for (int i = 0; i < operations; i++) {
+						list.addLast(item);
+						list.removeFirst();
+					}
+					return operations;
+				});
+				report(last[0].poolHits(), last[0].poolMisses());
+
+				DoublyLinkedList<?>[] lastDoubly = new DoublyLinkedList<?>[1];
+				ListBenchmark.run("DoublyLinkedList.churn" + suffix, params, () -> {
+					DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+					list.enableNodePool(poolCapacity);
+					for (int i = 0; i < depth; i++) list.addLast(item);
+					lastDoubly[0] = list;
+					return list;
+				}, list -> {
+					for (int i = 0; i < operations; i++) {
+						list.addLast(item);
+						list.removeFirst();
+					}
+					return operations;
+				});
+				report(lastDoubly[0].poolHits(), lastDoubly[0].poolMisses());
+			}
+		}
+	}
+
+	private static void report(long hits, long misses) {
+		System.out.printf("%-36s pool hits %d, misses %d%n", "", hits, misses);
+	}
+}
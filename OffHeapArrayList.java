@@ -0,0 +1,312 @@
+/***
+ * Class to model the class OffHeapArrayList which is a generic class and implements the interface List<E>
+ * Stores the elements as fixed-width records in a direct ByteBuffer, outside of the GC scanned heap
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.nio.ByteBuffer; // to store the records off heap
+import java.util.Iterator; // to use the iterator
+import java.util.ListIterator; // to use the list iterator
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class OffHeapArrayList<E> implements List<E>{
+	// data members
+	private final RecordCodec<E> codec;
+	private final int recordSize;
+	private ByteBuffer records;
+	private final ByteBuffer scratch; // holds a record while it is encoded
+	private int size;
+
+	/***
+	 * Constructor for OffHeapArrayList class
+	 * @param codec which encodes and decodes the elements
+	 * Initializes records to a default capacity of 10 elements
+	 */
+	public OffHeapArrayList(RecordCodec<E> codec) {
+		this(codec, 10);
+	}
+
+	/***
+	 * Constructor for OffHeapArrayList class
+	 * @param codec which encodes and decodes the elements
+	 * @param capacity which contains the number of elements the list should be able to hold
+	 * Initialises data member size to 0
+	 */
+	public OffHeapArrayList(RecordCodec<E> codec, int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		this.codec = codec;
+		this.recordSize = codec.recordSize();
+		this.records = ByteBuffer.allocateDirect(bytesFor(capacity));
+		this.scratch = ByteBuffer.allocate(recordSize);
+		this.size = 0;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return call to method add which takes paramaters size and item
+	 */
+	public boolean add(E item) { // O(1) amortized
+		return add(size, item);
+	}
+
+	/***
+	 * Method to add an item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, E item) { // O(n)
+		if (index > size || index < 0) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		encode(item); // fails before the list changes if the codec rejects the item
+		ensureCapacity(size + 1);
+		int offset = index * recordSize;
+		records.put(offset + recordSize, records, offset, (size - index) * recordSize);
+		records.put(offset, scratch, 0, recordSize);
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to get an item at the specific index
+	 * @param index from where item has to be retrieved
+	 * @return element decoded from that particular index
+	 */
+	public E get(int index) { // O(1)
+		checkIndex(index);
+		return codec.read(records, index * recordSize);
+	}
+
+	/***
+	 * Method to set an item at the specific index
+	 * @param index from where item has to be set
+	 * @param item which contains the item that has to be set at the specific index
+	 * @return element that used to be at that particular index
+	 */
+	public E set(int index, E item) { // O(1)
+		checkIndex(index);
+		int offset = index * recordSize;
+		E oldItem = codec.read(records, offset);
+		encode(item);
+		records.put(offset, scratch, 0, recordSize);
+		return oldItem;
+	}
+
+	/***
+	 * Method to encode an item into the scratch record, so a codec that rejects the item
+	 * throws before any record of the list is touched
+	 * @param item which contains the item that needs to be encoded
+	 * no return value
+	 */
+	private void encode(E item) { // O(1)
+		codec.write(scratch, 0, item);
+	}
+
+	/***
+	 * Method to remove the item at index from the list
+	 * @param index from where the item has to be removed
+	 * @return item which has been removed
+	 */
+	public E remove(int index) { // O(n)
+		checkIndex(index);
+		int offset = index * recordSize;
+		E item = codec.read(records, offset);
+		records.put(offset, records, offset + recordSize, (size - index - 1) * recordSize);
+		size--;
+		return item;
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/***
+	 * Method to clear list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() {
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return the number of off heap bytes reserved by the list
+	 * no parameters
+	 * @return capacity of the record buffer in bytes
+	 */
+	public long offHeapBytes() {
+		return records.capacity();
+	}
+
+	/***
+	 * Method to trim the record buffer to the accurate size
+	 * no parameters
+	 * no return value
+	 */
+	public void trimToSize() { // O(n)
+		if (bytesFor(size) != records.capacity()) {
+			resize(size);
+		}
+	}
+
+	/***
+	 * Method to grow the list so it can hold at least minCapacity items
+	 * @param minCapacity which contains the number of items the list must be able to hold
+	 * no return value
+	 */
+	public void ensureCapacity(int minCapacity) { // O(n)
+		int capacity = records.capacity() / Math.max(recordSize, 1);
+		if (minCapacity > capacity) {
+			long newCap = Math.max(minCapacity, capacity + (capacity >> 1));
+			// a single direct buffer holds at most Integer.MAX_VALUE bytes
+			newCap = Math.min(newCap, Integer.MAX_VALUE / Math.max(recordSize, 1));
+			if (newCap < minCapacity) {
+				throw new OutOfMemoryError("OffHeapArrayList cannot hold " + minCapacity + " records of " + recordSize + " bytes");
+			}
+			resize((int) newCap);
+		}
+	}
+
+	/***
+	 * Method to move the records into a new direct buffer in a single block copy
+	 * @param capacity which contains the number of records the new buffer holds
+	 * no return value
+	 */
+	private void resize(int capacity) { // O(n)
+		ByteBuffer newRecords = ByteBuffer.allocateDirect(bytesFor(capacity));
+		newRecords.put(0, records, 0, size * recordSize);
+		records = newRecords;
+	}
+
+	private int bytesFor(int capacity) {
+		return Math.multiplyExact(capacity, recordSize);
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * no return value
+	 */
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		StringBuilder output = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) output.append(", ");
+			output.append(get(i));
+		}
+		return output.append("]").toString();
+	}
+
+	/***
+	 * Method to generate an iterator for the list
+	 * no parameters
+	 * @return OffHeapListIterator
+	 */
+	public Iterator<E> iterator() {
+		return new OffHeapListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return OffHeapListIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new OffHeapListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return OffHeapListIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new OffHeapListIterator(index);
+	}
+
+	// Inner list iterator class which decodes the records as it moves
+	private class OffHeapListIterator implements ListIterator<E> {
+		// data member, index of the element returned by the next call to next()
+		private int cursor;
+
+		private OffHeapListIterator(int index) {
+			cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		public E next() {
+			if (cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			return get(cursor++);
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public E previous() {
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			return get(--cursor);
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/***
+ * Class to model the class ParallelLineLoader which reads many files at once into one List<E>
+ * A fixed number of long lived readers take the next file index from a shared counter until all files are read,
+ * every reader reads into its own ArrayList buffer, or into one buffer per file when the order has to be kept
+ * When all files are read the buffers are appended to the target list in one pass, so the target is only touched
+ * by the calling thread and does not have to be thread safe
+ * The readers run on virtual threads when the JVM has them and on platform threads otherwise, at most parallelism
+ * files are in flight and at most maxOpenFiles are open at the same time
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.IOException; // to use the io exception class
+import java.nio.file.Path; // to name the files
+import java.util.Collections; // to presize the per file buffers
+import java.util.concurrent.Callable; // to run the readers
+import java.util.concurrent.ExecutionException; // to unwrap the failure of a reader
+import java.util.concurrent.ExecutorService; // to run the readers
+import java.util.concurrent.Executors; // to create the reader threads
+import java.util.concurrent.Future; // to wait for the readers
+import java.util.concurrent.Semaphore; // to bound the open files
+import java.util.concurrent.ThreadPoolExecutor; // to tell the platform thread pool apart
+import java.util.concurrent.atomic.AtomicInteger; // to hand out the files to the readers
+
+public class ParallelLineLoader<E> {
+
+	// data members
+	private final LineLoader<E> loader;
+	private final int parallelism;
+	private final int maxOpenFiles;
+
+	/***
+	 * Constructor for ParallelLineLoader class
+	 * @param loader which reads one file
+	 * @param parallelism which contains the number of files read at the same time
+	 * Initialises the number of open files to the parallelism
+	 */
+	public ParallelLineLoader(LineLoader<E> loader, int parallelism) {
+		this(loader, parallelism, parallelism);
+	}
+
+	/***
+	 * Constructor for ParallelLineLoader class
+	 * @param loader which reads one file
+	 * @param parallelism which contains the number of files read at the same time
+	 * @param maxOpenFiles which contains the number of files that may be open at the same time
+	 */
+	public ParallelLineLoader(LineLoader<E> loader, int parallelism, int maxOpenFiles) {
+		if (parallelism <= 0 || maxOpenFiles <= 0) {
+			throw new IllegalArgumentException("Parallelism and open files must be positive: " + parallelism + ", "
+					+ maxOpenFiles);
+		}
+		this.loader = loader;
+		this.parallelism = parallelism;
+		this.maxOpenFiles = maxOpenFiles;
+	}
+
+	/***
+	 * Method to create a loader which adds every line as it is
+	 * @param parallelism which contains the number of files read at the same time
+	 * @return the string loader
+	 */
+	public static ParallelLineLoader<String> strings(int parallelism) {
+		return new ParallelLineLoader<>(LineLoader.strings(), parallelism);
+	}
+
+	/***
+	 * Method to read the files and add one parsed element per line to the list
+	 * @param files which need to be read
+	 * @param list where the elements need to be added
+	 * @param preserveOrder which is true if the lines have to be added in the order of the files, otherwise
+	 * every reader fills one buffer for all the files it reads and the files end up grouped by reader
+	 * @return statistics about the load
+	 */
+	public Stats load(java.util.List<Path> files, List<E> list, boolean preserveOrder) throws IOException { // O(n)
+		long start = System.nanoTime();
+		// one buffer per file keeps the order, otherwise every reader keeps its own buffer
+		java.util.List<ArrayList<E>> perFile = preserveOrder
+				? new java.util.ArrayList<>(Collections.nCopies(files.size(), null)) : null;
+		AtomicInteger next = new AtomicInteger();
+		Semaphore openFiles = new Semaphore(maxOpenFiles);
+		int readers = Math.max(1, Math.min(parallelism, files.size()));
+		java.util.List<Future<Reader<E>>> reads = new java.util.ArrayList<>(readers);
+		ExecutorService executor = newExecutor(readers);
+		boolean virtual = !(executor instanceof ThreadPoolExecutor);
+		try {
+			for (int i = 0; i < readers; i++) {
+				reads.add(executor.submit(new Reader<>(loader, files, perFile, next, openFiles)));
+			}
+			long bytes = 0;
+			long lines = 0;
+			java.util.List<ArrayList<E>> perReader = new java.util.ArrayList<>(readers);
+			for (Future<Reader<E>> read : reads) {
+				Reader<E> reader = read.get();
+				bytes += reader.bytes;
+				lines += reader.lines;
+				perReader.add(reader.buffer);
+			}
+			merge(preserveOrder ? perFile : perReader, list, lines);
+			return new Stats(files.size(), bytes, lines, System.nanoTime() - start, virtual);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while loading files", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException("Could not load files", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/***
+	 * Method to append the buffers to the list, an ArrayList is presized for all the lines first and then filled
+	 * straight from the buffers, a CopyOnWriteArrayList copies its array on every add so it gets one batch
+	 * @param buffers which contain the lines read by the readers, in the order they have to be added
+	 * @param list where the elements need to be added
+	 * @param lines which contains the total number of lines in the buffers
+	 * no return value
+	 */
+	private static <E> void merge(java.util.List<ArrayList<E>> buffers, List<E> list, long lines) { // O(n)
+		if (list.size() + lines > GrowthPolicy.MAX_CAPACITY) {
+			throw new IllegalStateException(lines + " more lines do not fit in the list");
+		}
+		if (list instanceof CopyOnWriteArrayList) {
+			java.util.List<E> batch = new java.util.ArrayList<>((int) lines);
+			for (ArrayList<E> buffer : buffers) buffer.forEach(batch::add);
+			((CopyOnWriteArrayList<E>) list).addAll(batch);
+			return;
+		}
+		if (list instanceof ArrayList) {
+			((ArrayList<E>) list).ensureCapacity(list.size() + (int) lines);
+		}
+		for (ArrayList<E> buffer : buffers) buffer.forEach(list::add);
+	}
+
+	/***
+	 * Method to create the executor of the readers, Executors.newVirtualThreadPerTaskExecutor is looked up
+	 * by reflection so the class still compiles and runs on JVMs without virtual threads
+	 * @param readers which contains the number of readers that will be submitted
+	 * @return a virtual thread per task executor, or a fixed pool of one platform thread per reader
+	 */
+	private static ExecutorService newExecutor(int readers) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(readers);
+		}
+	}
+
+	// Inner class for one reader, which keeps taking the next file until none are left
+	private static class Reader<E> implements Callable<Reader<E>> {
+		// data members
+		private final LineLoader<E> loader;
+		private final java.util.List<Path> files;
+		private final java.util.List<ArrayList<E>> perFile; // null when the reader fills its own buffer
+		private final AtomicInteger next;
+		private final Semaphore openFiles;
+		private final ArrayList<E> buffer = new ArrayList<>();
+		private long bytes;
+		private long lines;
+
+		private Reader(LineLoader<E> loader, java.util.List<Path> files, java.util.List<ArrayList<E>> perFile,
+				AtomicInteger next, Semaphore openFiles) {
+			this.loader = loader;
+			this.files = files;
+			this.perFile = perFile;
+			this.next = next;
+			this.openFiles = openFiles;
+		}
+
+		/***
+		 * Method to read files until all of them are taken, a failed read makes the other readers stop early
+		 * no parameters
+		 * @return this reader with its buffer and totals
+		 */
+		public Reader<E> call() throws IOException, InterruptedException {
+			int index;
+			while ((index = next.getAndIncrement()) < files.size()) {
+				ArrayList<E> target = perFile != null ? new ArrayList<>() : buffer;
+				openFiles.acquire();
+				try {
+					LineLoader.Stats stats = loader.load(files.get(index), target);
+					bytes += stats.bytes;
+					lines += stats.lines;
+				} catch (IOException | RuntimeException e) {
+					next.set(files.size());
+					throw e;
+				} finally {
+					openFiles.release();
+				}
+				if (perFile != null) {
+					perFile.set(index, target); // published to the caller by Future.get
+				}
+			}
+			return this;
+		}
+	}
+
+	// Inner class with the statistics of one parallel load
+	public static class Stats {
+		// data members
+		public final int files;
+		public final long bytes;
+		public final long lines;
+		public final long nanos;
+		public final boolean virtualThreads;
+
+		Stats(int files, long bytes, long lines, long nanos, boolean virtualThreads) {
+			this.files = files;
+			this.bytes = bytes;
+			this.lines = lines;
+			this.nanos = Math.max(nanos, 1);
+			this.virtualThreads = virtualThreads;
+		}
+
+		public double filesPerSecond() {
+			return files * 1e9 / nanos;
+		}
+
+		public double bytesPerSecond() {
+			return bytes * 1e9 / nanos;
+		}
+
+		public double linesPerSecond() {
+			return lines * 1e9 / nanos;
+		}
+
+		public String toString() {
+			return String.format("%d files, %d lines, %d bytes in %.3f ms on %s threads (%.0f files/s, %.1f MB/s, %.0f lines/s)",
+					files, lines, bytes, nanos / 1e6, virtualThreads ? "virtual" : "platform", filesPerSecond(),
+					bytesPerSecond() / (1024 * 1024), linesPerSecond());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/***
+ * Class to benchmark ParallelLineLoader against reading the files one at a time with LineLoader
+ * Writes a batch of copies of countries.txt to a temporary directory and loads all of them into an ArrayList
+ * with different numbers of files in flight, in file order and in any order
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.IOException; // to report read and write errors
+import java.io.UncheckedIOException; // to throw read errors from the benchmark body
+import java.nio.file.Files; // to create the files
+import java.nio.file.Path; // to name the files
+import java.nio.file.Paths; // to find countries.txt
+
+public class ParallelLoadBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional number of files followed by parallelism levels, for example 1000 1 4 16 64
+	 * no return value
+	 */
+	public static void main(String[] args) throws IOException {
+		int fileCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+		int[] levels = {1, 4, 16, 64};
+		if (args.length > 1) {
+			levels = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) levels[i - 1] = Integer.parseInt(args[i]);
+		}
+		Path directory = Files.createTempDirectory("parallel-load");
+		java.util.List<Path> files = new java.util.ArrayList<>(fileCount);
+		for (int i = 0; i < fileCount; i++) {
+			files.add(Files.copy(Paths.get("countries.txt"), directory.resolve("countries-" + i + ".txt")));
+		}
+		String params = "String/" + fileCount + " files";
+		try {
+			ListBenchmark.printHeader();
+			ListBenchmark.run("LineLoader.sequential", params, () -> new ArrayList<String>(), list -> {
+				long lines = 0;
+				for (Path file : files) lines += loadOne(file, list);
+				return lines;
+			});
+			for (int parallelism : levels) {
+				ParallelLineLoader<String> loader = ParallelLineLoader.strings(parallelism);
+				ListBenchmark.run("ParallelLineLoader.ordered." + parallelism, params, () -> new ArrayList<String>(),
+						list -> load(loader, files, list, true));
+				ListBenchmark.run("ParallelLineLoader.unordered." + parallelism, params, () -> new ArrayList<String>(),
+						list -> load(loader, files, list, false));
+			}
+			ArrayList<String> list = new ArrayList<>();
+			System.out.println("  " + ParallelLineLoader.strings(levels[levels.length - 1]).load(files, list, true));
+		} finally {
+			for (Path file : files) Files.delete(file);
+			Files.delete(directory);
+		}
+	}
+
+	private static long loadOne(Path file, List<String> list) {
+		try {
+			return LineLoader.strings().load(file, list).lines;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static long load(ParallelLineLoader<String> loader, java.util.List<Path> files, List<String> list,
+			boolean preserveOrder) {
+		try {
+			return loader.load(files, list, preserveOrder).lines;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,515 @@
+/***
+ * Class to model the class PersistentVector which is a generic class and implements the interface List<E>
+ * An immutable list stored as a 32-way radix-balanced tree: every change copies only the path from the root
+ * to one leaf and shares the rest of the tree with the vector it was made from
+ * The elements sit at tree indexes origin to origin + size - 1, so the tree can grow on both sides and a slice
+ * is the same tree with a different origin and size
+ * The Builder is the mutable (transient) mode: it changes the nodes it owns in place and hands out
+ * snapshots in O(1), after a snapshot it copies a node the first time it writes to it
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class PersistentVector<E> implements List<E>{
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS; // 32 children per node
+	private static final int MASK = WIDTH - 1;
+	private static final int MAX_SHIFT = 30; // a root at this shift covers every int tree index
+
+	// Data members
+	private final Node root; // null for an empty tree
+	private final int shift; // BITS times the number of levels above the leaves
+	private final int origin; // tree index of the element at index 0
+	private final int size;
+
+	// Inner class for one node of the tree, leaves hold the elements and the other nodes hold child nodes
+	private static class Node {
+		private Object owner; // the builder allowed to change the node in place, null when no builder is
+		private final Object[] array;
+
+		Node(Object owner, Object[] array) {
+			this.owner = owner;
+			this.array = array;
+		}
+	}
+
+	/***
+	 * Default constructor for PersistentVector class
+	 * Creates an empty vector
+	 */
+	public PersistentVector() {
+		this(null, 0, 0, 0);
+	}
+
+	private PersistentVector(Node root, int shift, int origin, int size) {
+		this.root = root;
+		this.shift = shift;
+		this.origin = origin;
+		this.size = size;
+	}
+
+	/***
+	 * Method to get the element at an index
+	 * @param index which contains the position of the element
+	 * @return the element
+	 */
+	public E get(int index) { // O(log32 n)
+		checkIndex(index, size);
+		return elementAt(leafFor(root, shift, origin + index), (origin + index) & MASK);
+	}
+
+	/***
+	 * Method to create a vector with one more element at the end
+	 * @param item which contains the element to add
+	 * @return the new vector, this vector is unchanged
+	 */
+	public PersistentVector<E> plus(E item) { // O(log32 n)
+		Builder<E> builder = toBuilder();
+		builder.add(item);
+		return builder.snapshot();
+	}
+
+	/***
+	 * Method to create a vector with one more element at the front
+	 * @param item which contains the element to add
+	 * @return the new vector, this vector is unchanged
+	 */
+	public PersistentVector<E> plusFirst(E item) { // O(log32 n)
+		Builder<E> builder = toBuilder();
+		builder.addFirst(item);
+		return builder.snapshot();
+	}
+
+	/***
+	 * Method to create a vector with the element at an index replaced
+	 * @param index which contains the position of the element
+	 * @param item which contains the new element
+	 * @return the new vector, this vector is unchanged
+	 */
+	public PersistentVector<E> with(int index, E item) { // O(log32 n)
+		checkIndex(index, size);
+		return new PersistentVector<>(store(root, shift, origin + index, item, null), shift, origin, size);
+	}
+
+	/***
+	 * Method to create a vector with the elements from one index up to another
+	 * The slice shares the nodes of this vector, the tree is only cut down to the smallest subtree holding the range
+	 * @param from which contains the index of the first element, inclusive
+	 * @param to which contains the index after the last element, exclusive
+	 * @return the new vector, this vector is unchanged
+	 */
+	public PersistentVector<E> slice(int from, int to) { // O(log32 n)
+		if (from < 0 || to > size || from > to) {
+			throw new ArrayIndexOutOfBoundsException("Slice [" + from + ", " + to + ") out of bounds for size " + size);
+		}
+		if (from == to) {
+			return new PersistentVector<>();
+		}
+		Node node = root;
+		int newShift = shift;
+		int newOrigin = origin + from;
+		int last = origin + to - 1;
+		while (newShift > 0) {
+			int first = (newOrigin >>> newShift) & MASK;
+			if (first != ((last >>> newShift) & MASK)) {
+				break;
+			}
+			node = (Node) node.array[first];
+			newOrigin -= first << newShift;
+			last -= first << newShift;
+			newShift -= BITS;
+		}
+		return new PersistentVector<>(node, newShift, newOrigin, to - from);
+	}
+
+	/***
+	 * Method to create a vector with the elements of this vector followed by the elements of another
+	 * The larger vector is shared and the elements of the smaller one are added to it in builder mode
+	 * @param other which contains the elements to put after the elements of this vector
+	 * @return the new vector, both vectors are unchanged
+	 */
+	public PersistentVector<E> concat(PersistentVector<? extends E> other) { // O(min(n, m) log32 (n + m))
+		if (other.size <= size) {
+			Builder<E> builder = toBuilder();
+			ListIterator<? extends E> it = other.listIterator();
+			while (it.hasNext()) builder.add(it.next());
+			return builder.snapshot();
+		}
+		// the nodes of other are shared, the builder copies them before it changes them
+		Builder<E> builder = new Builder<>(other.root, other.shift, other.origin, other.size);
+		ListIterator<E> it = listIterator(size);
+		while (it.hasPrevious()) builder.addFirst(it.previous());
+		return builder.snapshot();
+	}
+
+	/***
+	 * Method to start a builder holding the elements of this vector
+	 * @return the builder, changing it leaves this vector unchanged
+	 */
+	public Builder<E> toBuilder() { // O(1)
+		return new Builder<>(root, shift, origin, size);
+	}
+
+	/***
+	 * Method to add an item, not supported because the vector is immutable
+	 * @param item which contains the item that needs to be added
+	 * @return no return, always throws
+	 */
+	public boolean add(E item) {
+		throw new UnsupportedOperationException("PersistentVector is immutable, use plus or a Builder");
+	}
+
+	/***
+	 * Method to return values of the vector
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		return ListWriter.render(this, size == 0 ? null : get(0));
+	}
+
+	/***
+	 * Method to check if vector is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return vector size
+	 * no parameters
+	 * @return vector size
+	 */
+	public int size() { // O(1)
+		return size;
+	}
+
+	/***
+	 * Method to generate a list iterator for the vector
+	 * no parameters
+	 * @return VectorIterator
+	 */
+	public ListIterator<E> listIterator() { // O(1)
+		return new VectorIterator<>(root, shift, origin, size, 0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the vector starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return VectorIterator
+	 */
+	public ListIterator<E> listIterator(int index) { // O(1)
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new VectorIterator<>(root, shift, origin, size, index);
+	}
+
+	private static void checkIndex(int index, int size) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	@SuppressWarnings("unchecked") // leaves only ever hold elements of the vector
+	private static <E> E elementAt(Object[] leaf, int slot) {
+		return (E) leaf[slot];
+	}
+
+	/***
+	 * Method to find the leaf holding a tree index
+	 * @param root which contains the root of the tree
+	 * @param shift which contains the shift of the root
+	 * @param treeIndex which contains the tree index
+	 * @return the array of the leaf
+	 */
+	private static Object[] leafFor(Node root, int shift, int treeIndex) { // O(log32 n)
+		Node node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = (Node) node.array[(treeIndex >>> level) & MASK];
+		}
+		return node.array;
+	}
+
+	/***
+	 * Method to store a value at a tree index, copying every node on the path the owner is not allowed to change
+	 * @param node which contains the root of the subtree, null when the subtree does not exist yet
+	 * @param shift which contains the shift of the subtree
+	 * @param treeIndex which contains the tree index
+	 * @param value which contains the value to store
+	 * @param owner which contains the owner of the builder doing the change, null to copy the whole path
+	 * @return the root of the changed subtree
+	 */
+	private static Node store(Node node, int shift, int treeIndex, Object value, Object owner) { // O(log32 n)
+		Node editable;
+		if (node != null && owner != null && node.owner == owner) {
+			editable = node;
+		} else {
+			editable = new Node(owner, node == null ? new Object[WIDTH] : node.array.clone());
+		}
+		int slot = (treeIndex >>> shift) & MASK;
+		if (shift == 0) {
+			editable.array[slot] = value;
+		} else {
+			editable.array[slot] = store((Node) editable.array[slot], shift - BITS, treeIndex, value, owner);
+		}
+		return editable;
+	}
+
+	// Inner class for the mutable mode of the vector, for bulk loads and for a live list readers take snapshots of
+	public static class Builder<E> implements List<E> {
+		// data members, the same as the vector plus the owner token of the nodes this builder may change
+		private Node root;
+		private int shift;
+		private int origin;
+		private int size;
+		private Object owner = new Object();
+
+		/***
+		 * Default constructor for Builder class
+		 * Creates an empty builder
+		 */
+		public Builder() {
+			this(null, 0, 0, 0);
+		}
+
+		private Builder(Node root, int shift, int origin, int size) {
+			this.root = root;
+			this.shift = shift;
+			this.origin = origin;
+			this.size = size;
+		}
+
+		/***
+		 * Method to add an item at the end
+		 * @param item which contains the item that needs to be added
+		 * @return true if the item is added
+		 */
+		public boolean add(E item) { // O(log32 n), O(1) amortized copies
+			if (root == null) {
+				root = new Node(owner, new Object[WIDTH]);
+				origin = 0;
+			}
+			if ((long) origin + size == Integer.MAX_VALUE) {
+				throw new IllegalStateException("Vector is full");
+			}
+			if (origin + size == capacity()) { // full on the right, the old root becomes the first child
+				if (shift + BITS > MAX_SHIFT) {
+					throw new IllegalStateException("Vector is full");
+				}
+				Node newRoot = new Node(owner, new Object[WIDTH]);
+				newRoot.array[0] = root;
+				root = newRoot;
+				shift += BITS;
+			}
+			root = store(root, shift, origin + size, item, owner);
+			size++;
+			return true;
+		}
+
+		/***
+		 * Method to add an item at the front
+		 * @param item which contains the item that needs to be added
+		 * @return true if the item is added
+		 */
+		public boolean addFirst(E item) { // O(log32 n), O(1) amortized copies
+			if (root == null) {
+				root = new Node(owner, new Object[WIDTH]);
+				origin = WIDTH;
+			}
+			if (origin == 0) { // full on the left, the old root becomes the second child
+				if (shift + BITS > MAX_SHIFT) {
+					throw new IllegalStateException("Vector is full");
+				}
+				Node newRoot = new Node(owner, new Object[WIDTH]);
+				newRoot.array[1] = root;
+				origin = (int) capacity();
+				root = newRoot;
+				shift += BITS;
+			}
+			origin--;
+			root = store(root, shift, origin, item, owner);
+			size++;
+			return true;
+		}
+
+		/***
+		 * Method to get the element at an index
+		 * @param index which contains the position of the element
+		 * @return the element
+		 */
+		public E get(int index) { // O(log32 n)
+			checkIndex(index, size);
+			return elementAt(leafFor(root, shift, origin + index), (origin + index) & MASK);
+		}
+
+		/***
+		 * Method to replace the element at an index
+		 * @param index which contains the position of the element
+		 * @param item which contains the new element
+		 * @return the element that was replaced
+		 */
+		public E set(int index, E item) { // O(log32 n)
+			E old = get(index);
+			root = store(root, shift, origin + index, item, owner);
+			return old;
+		}
+
+		/***
+		 * Method to remove the last element
+		 * no parameters
+		 * @return the removed element
+		 */
+		public E removeLast() { // O(log32 n)
+			if (size == 0) {
+				throw new NoSuchElementException();
+			}
+			E old = get(size - 1);
+			root = store(root, shift, origin + size - 1, null, owner); // lets the removed item be garbage collected
+			size--;
+			return old;
+		}
+
+		/***
+		 * Method to take an immutable snapshot of the builder, later changes to the builder do not show in it
+		 * no parameters
+		 * @return the snapshot
+		 */
+		public PersistentVector<E> snapshot() { // O(1)
+			owner = new Object(); // every node is now shared with the snapshot
+			return new PersistentVector<>(root, shift, origin, size);
+		}
+
+		private long capacity() {
+			return 1L << (shift + BITS);
+		}
+
+		/***
+		 * Method to return values of the builder
+		 * no parameters
+		 * @return string containing all the values
+		 */
+		public String toString() { // O(n)
+			return ListWriter.render(this, size == 0 ? null : get(0));
+		}
+
+		/***
+		 * Method to check if builder is empty
+		 * no parameters
+		 * @return true if its empty, false if its not empty
+		 */
+		public boolean isEmpty() { // O(1)
+			return (size == 0);
+		}
+
+		/***
+		 * Method to return builder size
+		 * no parameters
+		 * @return builder size
+		 */
+		public int size() { // O(1)
+			return size;
+		}
+
+		/***
+		 * Method to generate a list iterator for the builder, it reads the nodes of the builder without taking
+		 * them away from it, so the builder must not be changed while the iterator is in use
+		 * no parameters
+		 * @return VectorIterator
+		 */
+		public ListIterator<E> listIterator() { // O(1)
+			return new VectorIterator<>(root, shift, origin, size, 0);
+		}
+
+		/***
+		 * Method to generate a list iterator for the builder starting at the index passed
+		 * @param index according to which the list iterator needs to be created
+		 * @return VectorIterator
+		 */
+		public ListIterator<E> listIterator(int index) { // O(1)
+			if (index < 0 || index > size) {
+				throw new ArrayIndexOutOfBoundsException();
+			}
+			return new VectorIterator<>(root, shift, origin, size, index);
+		}
+	}
+
+	// Inner list iterator class which keeps the current leaf and only walks the tree when it moves to another leaf
+	private static class VectorIterator<E> implements ListIterator<E> {
+		// data members
+		private final Node root;
+		private final int shift;
+		private final int origin;
+		private final int size;
+		private int index;
+		private Object[] leaf;
+		private int leafBase = -1; // tree index of the first slot of leaf
+
+		VectorIterator(Node root, int shift, int origin, int size, int index) {
+			this.root = root;
+			this.shift = shift;
+			this.origin = origin;
+			this.size = size;
+			this.index = index;
+		}
+
+		private E at(int position) {
+			int treeIndex = origin + position;
+			if ((treeIndex & ~MASK) != leafBase) {
+				leaf = leafFor(root, shift, treeIndex);
+				leafBase = treeIndex & ~MASK;
+			}
+			return elementAt(leaf, treeIndex & MASK);
+		}
+
+		public boolean hasNext() { // O(1)
+			return index < size;
+		}
+
+		public E next() { // O(1) amortized
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			return at(index++);
+		}
+
+		public boolean hasPrevious() { // O(1)
+			return index > 0;
+		}
+
+		public E previous() { // O(1) amortized
+			if (index <= 0) {
+				throw new NoSuchElementException();
+			}
+			return at(--index);
+		}
+
+		public int nextIndex() { // O(1)
+			return index;
+		}
+
+		public int previousIndex() { // O(1)
+			return index - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/***
+ * Class to benchmark PersistentVector snapshots against copying an ArrayList
+ * A writer changes a few elements and then publishes a snapshot for readers, the ArrayList does it with a full copy
+ * and the vector builder with an O(1) snapshot, bulk loading and random get are measured as well
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Random; // to pick the indexes
+
+public class PersistentVectorBenchmark {
+
+	private static final int WRITES_PER_SNAPSHOT = 16;
+	private static final int SNAPSHOTS = 100;
+	private static final int GETS = 100_000;
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 100000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {100_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) values[i] = i;
+			Random random = new Random(42);
+			int[] indexes = new int[Math.max(GETS, SNAPSHOTS * WRITES_PER_SNAPSHOT)];
+			for (int i = 0; i < indexes.length; i++) indexes[i] = random.nextInt(size);
+			String params = "Integer/" + size;
+
+			ListBenchmark.run("ArrayList.bulkLoad", params, () -> values, items -> {
+				ArrayList<Integer> list = new ArrayList<>();
+				for (Integer item : items) list.add(item);
+				ListBenchmark.consume(list);
+				return size;
+			});
+			ListBenchmark.run("PersistentVector.bulkLoad", params, () -> values, items -> {
+				PersistentVector.Builder<Integer> builder = new PersistentVector.Builder<>();
+				for (Integer item : items) builder.add(item);
+				ListBenchmark.consume(builder.snapshot());
+				return size;
+			});
+
+			// each operation is a batch of writes followed by a snapshot for the readers
+			ListBenchmark.run("ArrayList.writeAndCopy", params, () -> filledArrayList(values), list -> {
+				for (int s = 0; s < SNAPSHOTS; s++) {
+					for (int w = 0; w < WRITES_PER_SNAPSHOT; w++) {
+						int index = indexes[s * WRITES_PER_SNAPSHOT + w];
+						list.set(index, -index);
+					}
+					ArrayList<Integer> copy = new ArrayList<>();
+					copy.ensureCapacity(list.size());
+					for (int i = 0; i < list.size(); i++) copy.add(list.get(i));
+					ListBenchmark.consume(copy);
+				}
+				return SNAPSHOTS;
+			});
+			ListBenchmark.run("PersistentVector.writeAndSnapshot", params, () -> filledBuilder(values), builder -> {
+				for (int s = 0; s < SNAPSHOTS; s++) {
+					for (int w = 0; w < WRITES_PER_SNAPSHOT; w++) {
+						int index = indexes[s * WRITES_PER_SNAPSHOT + w];
+						builder.set(index, -index);
+					}
+					ListBenchmark.consume(builder.snapshot());
+				}
+				return SNAPSHOTS;
+			});
+
+			ListBenchmark.run("ArrayList.get", params, () -> filledArrayList(values), list -> {
+				for (int i = 0; i < GETS; i++) ListBenchmark.consume(list.get(indexes[i]));
+				return GETS;
+			});
+			ListBenchmark.run("PersistentVector.get", params, () -> filledBuilder(values).snapshot(), vector -> {
+				for (int i = 0; i < GETS; i++) ListBenchmark.consume(vector.get(indexes[i]));
+				return GETS;
+			});
+			ListBenchmark.run("PersistentVector.sliceAndConcat", params, () -> filledBuilder(values).snapshot(), vector -> {
+				for (int i = 0; i < SNAPSHOTS; i++) {
+					PersistentVector<Integer> head = vector.slice(0, size / 2);
+					PersistentVector<Integer> tail = vector.slice(size / 2, size);
+					ListBenchmark.consume(head.concat(tail.slice(0, 1000)));
+				}
+				return SNAPSHOTS;
+			});
+		}
+	}
+
+	private static ArrayList<Integer> filledArrayList(Integer[] values) {
+		ArrayList<Integer> list = new ArrayList<>();
+		for (Integer value : values) list.add(value);
+		return list;
+	}
+
+	private static PersistentVector.Builder<Integer> filledBuilder(Integer[] values) {
+		PersistentVector.Builder<Integer> builder = new PersistentVector.Builder<>();
+		for (Integer value : values) builder.add(value);
+		return builder;
+	}
+}
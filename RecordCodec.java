@@ -0,0 +1,93 @@
+/***
+ * Class to model the interface RecordCodec<E> which encodes an element as a fixed-width record
+ * Used by OffHeapArrayList to store elements outside of the heap
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.nio.ByteBuffer; // to read and write the records
+import java.nio.charset.StandardCharsets; // to encode strings as UTF-8
+
+public interface RecordCodec<E>{
+
+	// contains abstract method recordSize, write and read
+	/***
+	 * Method to return the number of bytes every record takes
+	 * no parameters
+	 * @return record size in bytes
+	 */
+	public abstract int recordSize();
+
+	/***
+	 * Method to write an element as a record
+	 * @param buffer where the record has to be written
+	 * @param offset which contains the byte offset of the record
+	 * @param item which contains the element that needs to be written
+	 * no return value
+	 */
+	public abstract void write(ByteBuffer buffer, int offset, E item);
+
+	/***
+	 * Method to read the element stored in a record
+	 * @param buffer where the record is stored
+	 * @param offset which contains the byte offset of the record
+	 * @return the decoded element
+	 */
+	public abstract E read(ByteBuffer buffer, int offset);
+
+	// codec for Integer elements, 4 bytes per record
+	public static final RecordCodec<Integer> INT = new RecordCodec<Integer>() {
+		public int recordSize() { return Integer.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Integer item) { buffer.putInt(offset, item); }
+		public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+	};
+
+	// codec for Long elements, 8 bytes per record
+	public static final RecordCodec<Long> LONG = new RecordCodec<Long>() {
+		public int recordSize() { return Long.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Long item) { buffer.putLong(offset, item); }
+		public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+	};
+
+	// codec for Double elements, 8 bytes per record
+	public static final RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+		public int recordSize() { return Double.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Double item) { buffer.putDouble(offset, item); }
+		public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+	};
+
+	/***
+	 * Method to create a codec for strings of at most maxBytes UTF-8 bytes
+	 * Every record is a 2 byte length followed by maxBytes bytes of data
+	 * @param maxBytes which contains the largest encoded string the codec accepts
+	 * @return the string codec
+	 */
+	public static RecordCodec<String> fixedString(int maxBytes) {
+		if (maxBytes < 0 || maxBytes > 0xFFFF) {
+			throw new IllegalArgumentException("maxBytes must be between 0 and 65535: " + maxBytes);
+		}
+		return new RecordCodec<String>() {
+			public int recordSize() {
+				return 2 + maxBytes;
+			}
+
+			public void write(ByteBuffer buffer, int offset, String item) {
+				byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+				if (bytes.length > maxBytes) {
+					throw new IllegalArgumentException("String needs " + bytes.length + " bytes, record holds " + maxBytes);
+				}
+				buffer.putShort(offset, (short) bytes.length);
+				buffer.put(offset + 2, bytes);
+			}
+
+			public String read(ByteBuffer buffer, int offset) {
+				byte[] bytes = new byte[buffer.getShort(offset) & 0xFFFF];
+				buffer.get(offset + 2, bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+		};
+	}
+}
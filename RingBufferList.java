@@ -0,0 +1,350 @@
+/***
+ * Class to model the class RingBufferList which is a generic class and implements the interface List<E>
+ * Keeps the elements in a circular array whose length is a power of two, so an index wraps around with a mask
+ * instead of a modulo, the elements start at head and run for size slots
+ * Adding and removing at either end and get are O(1), growing unwraps the ring with at most two bulk copies
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class RingBufferList<E> implements List<E>{
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	// Data members
+	private E[] elements;
+	private int head; // slot of the element at index 0
+	private int size;
+
+	/***
+	 * Default constructor for RingBufferList class
+	 * Initializes the array to a default size of 16
+	 */
+	public RingBufferList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/***
+	 * Constructor for RingBufferList class
+	 * @param capacity which contains the number of elements to make room for, rounded up to a power of two
+	 */
+	public RingBufferList(int capacity) {
+		if (capacity < 0 || capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY + ": " + capacity);
+		}
+		int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		elements = newArray(length);
+		head = 0;
+		size = 0;
+	}
+
+	/***
+	 * Method to add an item right in the front of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addFirst(E item) { // O(1) amortized
+		if (size == elements.length) {
+			grow();
+		}
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = item;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to add an item right in the end of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addLast(E item) { // O(1) amortized
+		if (size == elements.length) {
+			grow();
+		}
+		elements[(head + size) & (elements.length - 1)] = item;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return calls method addLast(item)
+	 */
+	public boolean add(E item) { // O(1) amortized
+		return addLast(item);
+	}
+
+	/***
+	 * Method to remove the first element in the list
+	 * no parameters
+	 * @return the removed element
+	 */
+	public E removeFirst() { // O(1)
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		E item = elements[head];
+		elements[head] = null; // lets the removed item be garbage collected
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return item;
+	}
+
+	/***
+	 * Method to remove the last element in the list
+	 * no parameters
+	 * @return the removed element
+	 */
+	public E removeLast() { // O(1)
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		int slot = (head + size - 1) & (elements.length - 1);
+		E item = elements[slot];
+		elements[slot] = null; // lets the removed item be garbage collected
+		size--;
+		return item;
+	}
+
+	/***
+	 * Method to retrieve the first element in the list
+	 * no parameters
+	 * @return the first element
+	 */
+	public E getFirst() { // O(1)
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return elements[head];
+	}
+
+	/***
+	 * Method to retrieve the last element in the list
+	 * no parameters
+	 * @return the last element
+	 */
+	public E getLast() { // O(1)
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return elements[(head + size - 1) & (elements.length - 1)];
+	}
+
+	/***
+	 * Method to get the element at an index
+	 * @param index which contains the position of the element
+	 * @return the element
+	 */
+	public E get(int index) { // O(1)
+		checkIndex(index);
+		return elements[(head + index) & (elements.length - 1)];
+	}
+
+	/***
+	 * Method to replace the element at an index
+	 * @param index which contains the position of the element
+	 * @param item which contains the new element
+	 * @return the element that was replaced
+	 */
+	public E set(int index, E item) { // O(1)
+		checkIndex(index);
+		int slot = (head + index) & (elements.length - 1);
+		E old = elements[slot];
+		elements[slot] = item;
+		return old;
+	}
+
+	/***
+	 * Method to remove the element at an index, moving the elements on the shorter side of it
+	 * @param index which contains the position of the element
+	 * @return the removed element
+	 */
+	public E remove(int index) { // O(min(index, size - index))
+		checkIndex(index);
+		int mask = elements.length - 1;
+		E item = elements[(head + index) & mask];
+		if (index < size / 2) {
+			// moves the elements before the index one slot right and drops the first slot
+			for (int i = index; i > 0; i--) {
+				elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+			}
+			elements[head] = null;
+			head = (head + 1) & mask;
+		} else {
+			// moves the elements after the index one slot left and drops the last slot
+			for (int i = index; i < size - 1; i++) {
+				elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+			}
+			elements[(head + size - 1) & mask] = null;
+		}
+		size--;
+		return item;
+	}
+
+	/***
+	 * Method to find the first position of an element
+	 * @param o which contains the element to find
+	 * @return index of the first equal element, or -1 if the list does not contain it
+	 */
+	public int indexOf(Object o) { // O(n)
+		int mask = elements.length - 1;
+		for (int i = 0; i < size; i++) {
+			E item = elements[(head + i) & mask];
+			if (o == null ? item == null : o.equals(item)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/***
+	 * Method to double the array, the wrapped part of the ring is copied after the part that runs to the end
+	 * no parameters
+	 * no return value
+	 */
+	private void grow() { // O(n)
+		int length = elements.length;
+		if (length == MAX_CAPACITY) {
+			throw new IllegalStateException("RingBufferList is full");
+		}
+		E[] newElements = newArray(length << 1);
+		int firstPart = Math.min(size, length - head); // from head to the end of the array
+		System.arraycopy(elements, head, newElements, 0, firstPart);
+		System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+		elements = newElements;
+		head = 0;
+	}
+
+	@SuppressWarnings("unchecked") // the array only ever holds elements of type E
+	private E[] newArray(int length) {
+		return (E[]) new Object[length];
+	}
+
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		return ListWriter.render(this, size == 0 ? null : elements[head]);
+	}
+
+	/***
+	 * Method to clear the list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(n)
+		int mask = elements.length - 1;
+		for (int i = 0; i < size; i++) {
+			elements[(head + i) & mask] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return size;
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return RingIterator
+	 */
+	public ListIterator<E> listIterator() { // O(1)
+		return new RingIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return RingIterator
+	 */
+	public ListIterator<E> listIterator(int index) { // O(1)
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new RingIterator(index);
+	}
+
+	// Inner list iterator class which walks the ring through get
+	private class RingIterator implements ListIterator<E> {
+		// data members
+		private int index;
+
+		private RingIterator(int index) {
+			this.index = index;
+		}
+
+		public boolean hasNext() { // O(1)
+			return index < size;
+		}
+
+		public E next() { // O(1)
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			return get(index++);
+		}
+
+		public boolean hasPrevious() { // O(1)
+			return index > 0;
+		}
+
+		public E previous() { // O(1)
+			if (index <= 0) {
+				throw new NoSuchElementException();
+			}
+			return get(--index);
+		}
+
+		public int nextIndex() { // O(1)
+			return index;
+		}
+
+		public int previousIndex() { // O(1)
+			return index - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/***
+ * Class to benchmark RingBufferList against ArrayList used as a sliding window
+ * Every operation adds an element at the tail and evicts the oldest one at the head, which is remove(0) on
+ * the ArrayList and removeFirst on the ring buffer
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+public class SlidingWindowBenchmark {
+
+	private static final int SLIDES = 10_000;
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional window sizes, for example 1000 100000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] windows = {1_000, 100_000, 1_000_000};
+		if (args.length > 0) {
+			windows = new int[args.length];
+			for (int i = 0; i < args.length; i++) windows[i] = Integer.parseInt(args[i]);
+		}
+		ListBenchmark.printHeader();
+		for (int window : windows) {
+			String params = "Integer/" + window;
+			ListBenchmark.run("ArrayList.slide", params, () -> {
+				ArrayList<Integer> list = new ArrayList<>();
+				for (int i = 0; i < window; i++) list.add(i);
+				return list;
+			}, list -> {
+				for (int i = 0; i < SLIDES; i++) {
+					list.add(i);
+					ListBenchmark.consume(list.remove(0));
+				}
+				return SLIDES;
+			});
+			ListBenchmark.run("RingBufferList.slide", params, () -> {
+				RingBufferList<Integer> list = new RingBufferList<>();
+				for (int i = 0; i < window; i++) list.add(i);
+				return list;
+			}, list -> {
+				for (int i = 0; i < SLIDES; i++) {
+					list.add(i);
+					ListBenchmark.consume(list.removeFirst());
+				}
+				return SLIDES;
+			});
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/***
+ * Class to benchmark saving and loading a List<String> as a binary snapshot against the text file
+ * read by Test.readFromFile, the lists are built by repeating the country names
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.File; // to create the temporary files
+import java.io.IOException; // to use the io exception class
+import java.io.PrintWriter; // to write the text file
+import java.io.UncheckedIOException; // to report io errors from a benchmark body
+import java.nio.file.Files; // to read the countries file
+import java.nio.file.Path; // to name the files
+import java.nio.file.Paths; // to find the countries file
+import java.util.Random; // to pick the countries
+
+public class SnapshotBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 100000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) throws IOException {
+		int[] sizes = {100_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		String[] countries = Files.readAllLines(Paths.get("countries.txt")).toArray(new String[0]);
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			ArrayList<String> source = new ArrayList<>();
+			Random random = new Random(42);
+			for (int i = 0; i < size; i++) source.add(countries[random.nextInt(countries.length)]);
+			Path text = File.createTempFile("snapshot", ".txt").toPath();
+			Path snapshot = File.createTempFile("snapshot", ".bin").toPath();
+			try (PrintWriter out = new PrintWriter(text.toFile())) {
+				for (int i = 0; i < size; i++) out.println(source.get(i));
+			}
+			ListSnapshot.write(source, snapshot);
+			String params = "String/" + size;
+			System.out.printf("text %d bytes, snapshot %d bytes%n", Files.size(text), Files.size(snapshot));
+
+			ListBenchmark.run("ArrayList.writeText", params, () -> source, list -> {
+				try (PrintWriter out = new PrintWriter(text.toFile())) {
+					for (int i = 0; i < size; i++) out.println(list.get(i));
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return size;
+			});
+			ListBenchmark.run("ArrayList.writeSnapshot", params, () -> source, list -> {
+				try {
+					ListSnapshot.write(list, snapshot);
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return size;
+			});
+			ListBenchmark.run("ArrayList.readText", params, () -> new ArrayList<String>(), list -> readText(text, list));
+			ListBenchmark.run("ArrayList.readSnapshot", params, () -> new ArrayList<String>(), list -> readSnapshot(snapshot, list));
+			ListBenchmark.run("LinkedList.readText", params, () -> new LinkedList<String>(), list -> readText(text, list));
+			ListBenchmark.run("LinkedList.readSnapshot", params, () -> new LinkedList<String>(), list -> readSnapshot(snapshot, list));
+			ListBenchmark.run("DoublyLinkedList.readText", params, () -> new DoublyLinkedList<String>(), list -> readText(text, list));
+			ListBenchmark.run("DoublyLinkedList.readSnapshot", params, () -> new DoublyLinkedList<String>(), list -> readSnapshot(snapshot, list));
+			Files.delete(text);
+			Files.delete(snapshot);
+		}
+	}
+
+	private static long readText(Path file, List<String> list) {
+		try {
+			return LineLoader.strings().load(file, list).lines;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static long readSnapshot(Path file, List<String> list) {
+		try {
+			return ListSnapshot.read(file, list);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/***
+ * Class to model the class StampedArrayList which is a thread-safe generic class and implements the interface List<E>
+ * Guards the array with a StampedLock: get and size use optimistic reads which take no lock
+ * unless a writer got in, writes take the write lock and change the array in place
+ * Suited to lists which are read often and written too often for copy-on-write
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to copy the array
+import java.util.Iterator; // to use the iterator
+import java.util.ListIterator; // to use the list iterator
+import java.util.NoSuchElementException; // to use the no such element exception class
+import java.util.concurrent.locks.StampedLock; // to guard the array
+
+public class StampedArrayList<E> implements List<E>{
+	// data members, only read or written while holding a stamp of the lock
+	private Object[] elements;
+	private int size;
+	private final StampedLock lock = new StampedLock();
+
+	/***
+	 * Default constructor
+	 * Initializes elements to a default size of 10
+	 */
+	public StampedArrayList() {
+		this(10);
+	}
+
+	/***
+	 * Constructor for StampedArrayList class
+	 * @param capacity which contains the capacity the list should have
+	 */
+	public StampedArrayList(int capacity) {
+		elements = new Object[capacity];
+		size = 0;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(E item) { // O(1) amortized
+		long stamp = lock.writeLock();
+		try {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, Math.max(size + 1, size + (size >> 1)));
+			}
+			elements[size++] = item;
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/***
+	 * Method to add an item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, E item) { // O(n)
+		long stamp = lock.writeLock();
+		try {
+			if (index > size || index < 0) {
+				throw new ArrayIndexOutOfBoundsException();
+			}
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, Math.max(size + 1, size + (size >> 1)));
+			}
+			System.arraycopy(elements, index, elements, index + 1, size - index);
+			elements[index] = item;
+			size++;
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/***
+	 * Method to get an item at the specific index
+	 * Tries an optimistic read first and only takes the read lock if a writer interfered
+	 * @param index from where item has to be retrieved
+	 * @return element at that particular index
+	 */
+	public E get(int index) { // O(1)
+		long stamp = lock.tryOptimisticRead();
+		Object[] array = elements;
+		int currentSize = size;
+		if (index >= 0 && index < currentSize && index < array.length) {
+			E item = elementAt(array, index);
+			if (lock.validate(stamp)) {
+				return item;
+			}
+		} else if (lock.validate(stamp)) {
+			checkIndex(index, currentSize);
+		}
+		stamp = lock.readLock();
+		try {
+			checkIndex(index, size);
+			return elementAt(elements, index);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/***
+	 * Method to set an item at the specific index
+	 * @param index from where item has to be set
+	 * @param item which contains the item that has to be set at the specific index
+	 * @return element that used to be at that particular index
+	 */
+	public E set(int index, E item) { // O(1)
+		long stamp = lock.writeLock();
+		try {
+			checkIndex(index, size);
+			E oldItem = elementAt(elements, index);
+			elements[index] = item;
+			return oldItem;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/***
+	 * Method to remove the item at index from the list
+	 * @param index from where the item has to be removed
+	 * @return item which has been removed
+	 */
+	public E remove(int index) { // O(n)
+		long stamp = lock.writeLock();
+		try {
+			checkIndex(index, size);
+			E item = elementAt(elements, index);
+			System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+			elements[--size] = null;
+			return item;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/***
+	 * Method to return list size, with an optimistic read
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		long stamp = lock.tryOptimisticRead();
+		int currentSize = size;
+		if (lock.validate(stamp)) {
+			return currentSize;
+		}
+		stamp = lock.readLock();
+		try {
+			return size;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return size() == 0;
+	}
+
+	/***
+	 * Method to clear list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(n)
+		long stamp = lock.writeLock();
+		try {
+			Arrays.fill(elements, 0, size, null);
+			size = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/***
+	 * Method to copy the elements into a new array, optimistically first
+	 * no parameters
+	 * @return copy of the list at this moment
+	 */
+	public Object[] snapshot() { // O(n)
+		long stamp = lock.tryOptimisticRead();
+		Object[] array = elements;
+		int currentSize = size;
+		if (currentSize <= array.length) {
+			Object[] copy = Arrays.copyOf(array, currentSize);
+			if (lock.validate(stamp)) {
+				return copy;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return Arrays.copyOf(elements, size);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/***
+	 * Method to read an element from one of the arrays of the list
+	 * @param array which contains the elements
+	 * @param index which contains the position of the element
+	 * @return the element
+	 */
+	@SuppressWarnings("unchecked") // the arrays only ever hold elements of type E
+	private E elementAt(Object[] array, int index) { // O(1)
+		return (E) array[index];
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * @param size which contains the size the index is checked against
+	 * no return value
+	 */
+	private static void checkIndex(int index, int size) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		return Arrays.toString(snapshot());
+	}
+
+	/***
+	 * Method to generate an iterator over a snapshot of the list
+	 * no parameters
+	 * @return SnapshotIterator
+	 */
+	public Iterator<E> iterator() {
+		return new SnapshotIterator(snapshot(), 0);
+	}
+
+	/***
+	 * Method to generate a list iterator over a snapshot of the list
+	 * no parameters
+	 * @return SnapshotIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new SnapshotIterator(snapshot(), 0);
+	}
+
+	/***
+	 * Method to generate a list iterator over a snapshot of the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return SnapshotIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		Object[] snapshot = snapshot();
+		if (index < 0 || index > snapshot.length) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new SnapshotIterator(snapshot, index);
+	}
+
+	// Inner list iterator class which walks a private copy of the array
+	private class SnapshotIterator implements ListIterator<E> {
+		// data members
+		private final Object[] snapshot;
+		private int cursor; // index of the element returned by the next call to next()
+
+		private SnapshotIterator(Object[] snapshot, int index) {
+			this.snapshot = snapshot;
+			this.cursor = index;
+		}
+
+		public boolean hasNext() {
+			return cursor < snapshot.length;
+		}
+
+		public E next() {
+			if (cursor >= snapshot.length) {
+				throw new NoSuchElementException();
+			}
+			return elementAt(snapshot, cursor++);
+		}
+
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		public E previous() {
+			if (cursor <= 0) {
+				throw new NoSuchElementException();
+			}
+			return elementAt(snapshot, --cursor);
+		}
+
+		public int nextIndex() {
+			return cursor;
+		}
+
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		/***
+		 * Methods which change the list through the iterator
+		 * throw unsupported operation exception, the snapshot cannot be changed
+		 */
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
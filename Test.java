@@ -1,10 +1,15 @@
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ListIterator;
-import java.util.Scanner;
 
 
 public class Test {
+
+    // one writer for all the printing so its buffer and encoder are reused
+    private static final Writer STDOUT = new OutputStreamWriter(System.out);
     
     public static void main (String[] args) throws FileNotFoundException{
         // creates instances of the arraylist, linkedlist, and doublylinkedlist classes 
@@ -48,21 +53,17 @@ public class Test {
 	 	* no return value 
 	 	*/
     public static void readFromFile(List<String> list, String fileName) throws FileNotFoundException{
-        
         File file = new File(fileName);
-        Scanner scanner = new Scanner(file);
+        if(!file.isFile()){
+            throw new FileNotFoundException(fileName);
+        }
         try{
-            Scanner readFile = new Scanner(file);
-            // reads information from the file and stores it in the relevant data members
-            while(readFile.hasNext()){
-                String line = readFile.nextLine();
-                list.add(line);
-            }
-            readFile.close();
+            // streams the lines of the file into the list in batches
+            LineLoader.strings().load(file.toPath(), list);
         }
-        // catches the file not found exception
-        catch(FileNotFoundException e){
-            System.out.println("File not found");
+        // reports read errors the same way as a missing file
+        catch(IOException e){
+            System.out.println("Could not read " + fileName + ": " + e.getMessage());
             System.exit(0);
         }
     }
@@ -74,13 +75,19 @@ public class Test {
 	 	*/
     public static <E> void printListForward(List<E> list){ // O(n)
         ListIterator<E> it = list.listIterator(); // O(1)
-        System.out.print("[");
-        while(it.hasNext()){ // O(n)
-            E temp = it.next();
-            System.out.print(temp + " "); 
+        try{
+            // buffers the elements and prints them a chunk at a time
+            ListWriter out = new ListWriter(STDOUT);
+            out.append('[');
+            while(it.hasNext()){ // O(n)
+                out.append(it.next()).append(' ');
+            }
+            out.append(']').append(System.lineSeparator());
+            out.flush();
+        }
+        catch(IOException e){
+            System.out.println("Could not print the list: " + e.getMessage());
         }
-        System.out.print("]");
-        System.out.println();
     }
 
     /***
@@ -90,11 +97,18 @@ public class Test {
 	 	*/
     public static <E> void printListBackward(List<E> list){ // O(n)
         ListIterator<E> it = list.listIterator(list.size());
-        System.out.print("[");
-        while(it.hasPrevious()){
-            System.out.print(it.previous() + " ");
+        try{
+            // buffers the elements and prints them a chunk at a time
+            ListWriter out = new ListWriter(STDOUT);
+            out.append('[');
+            while(it.hasPrevious()){
+                out.append(it.previous()).append(' ');
+            }
+            out.append(']').append(System.lineSeparator());
+            out.flush();
+        }
+        catch(IOException e){
+            System.out.println("Could not print the list: " + e.getMessage());
         }
-        System.out.print("]");
-        System.out.println();
     }
 }
@@ -0,0 +1,514 @@
+/***
+ * Class to model the class UnrolledLinkedList which is a generic class and implements the interface List<E>
+ * Every node holds a small array of elements, so a traversal touches one node per block of elements
+ * Full nodes are split on insert and nearly empty nodes are merged with their neighbour on remove
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.Arrays; // to clear the node arrays
+import java.util.Iterator; // to use the iterator class
+import java.util.ListIterator; // to use the list iterator class
+import java.util.NoSuchElementException; // to use the no such element exception class
+
+public class UnrolledLinkedList<E> implements List<E>{
+
+	private static final int DEFAULT_NODE_CAPACITY = 32;
+
+	// Data members
+	private final int nodeCapacity;
+	private Node head, tail;
+	private int size;
+	private int nodeCount;
+
+	// Inner class node which holds up to nodeCapacity elements
+	private class Node {
+		// Data members
+		final E[] items = newArray(nodeCapacity);
+		int count;
+		Node next;
+		Node previous;
+	}
+
+	@SuppressWarnings("unchecked") // the array only ever holds elements of type E
+	private E[] newArray(int length) {
+		return (E[]) new Object[length];
+	}
+
+	/***
+	 * Default constructor for UnrolledLinkedList class
+	 * Uses nodes of 32 elements
+	 */
+	public UnrolledLinkedList() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/***
+	 * Constructor for UnrolledLinkedList class
+	 * @param nodeCapacity which contains the number of elements every node holds, at least 4
+	 * Initialises data members head and tail to null and size to 0
+	 */
+	public UnrolledLinkedList(int nodeCapacity) {
+		if (nodeCapacity < 4) {
+			throw new IllegalArgumentException("Node capacity must be at least 4: " + nodeCapacity);
+		}
+		this.nodeCapacity = nodeCapacity;
+		head = tail = null;
+		size = 0;
+	}
+
+	/***
+	 * Method to add an item right in the front of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addFirst(E item) { // O(1)
+		if (head == null || head.count == nodeCapacity) {
+			linkBefore(head);
+		}
+		insertInNode(head, 0, item);
+		return true;
+	}
+
+	/***
+	 * Method to add an item right in the end of the list
+	 * @param item which contains the item that needs to be added
+	 * @return true if the item is added
+	 */
+	public boolean addLast(E item) { // O(1)
+		if (tail == null || tail.count == nodeCapacity) {
+			linkAfter(tail);
+		}
+		tail.items[tail.count++] = item;
+		size++;
+		return true;
+	}
+
+	/***
+	 * Method to add an item
+	 * @param item which contains the item that needs to be added
+	 * @return calls method addLast(item)
+	 */
+	public boolean add(E item) { // O(1)
+		return addLast(item);
+	}
+
+	/***
+	 * Method to add an item at the specific index
+	 * @param index where item has to be added
+	 * @param item which contains the item that needs to be added
+	 * @return true if added
+	 */
+	public boolean add(int index, E item) { // O(n / nodeCapacity)
+		if (index > size || index < 0) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		if (index == size) {
+			return addLast(item);
+		}
+		Node node = head;
+		int offset = index;
+		if (index > size / 2) { // walks from whichever end is closer
+			node = tail;
+			offset = index - (size - tail.count);
+			while (offset < 0) {
+				node = node.previous;
+				offset += node.count;
+			}
+		} else {
+			while (offset >= node.count) {
+				offset -= node.count;
+				node = node.next;
+			}
+		}
+		if (node.count == nodeCapacity) {
+			// splits the full node, moving its upper half into a new node after it
+			Node newNode = linkAfter(node);
+			int half = nodeCapacity / 2;
+			System.arraycopy(node.items, half, newNode.items, 0, nodeCapacity - half);
+			Arrays.fill(node.items, half, nodeCapacity, null);
+			newNode.count = nodeCapacity - half;
+			node.count = half;
+			if (offset > half) {
+				node = newNode;
+				offset -= half;
+			}
+		}
+		insertInNode(node, offset, item);
+		return true;
+	}
+
+	/***
+	 * Method to get an item at the specific index
+	 * @param index from where item has to be retrieved
+	 * @return element at that particular index
+	 */
+	public E get(int index) { // O(n / nodeCapacity)
+		checkIndex(index);
+		Node node = head;
+		while (index >= node.count) {
+			index -= node.count;
+			node = node.next;
+		}
+		return node.items[index];
+	}
+
+	/***
+	 * Method to set an item at the specific index
+	 * @param index from where item has to be set
+	 * @param item which contains the item that has to be set
+	 * @return element that used to be at that particular index
+	 */
+	public E set(int index, E item) { // O(n / nodeCapacity)
+		checkIndex(index);
+		Node node = head;
+		while (index >= node.count) {
+			index -= node.count;
+			node = node.next;
+		}
+		E oldItem = node.items[index];
+		node.items[index] = item;
+		return oldItem;
+	}
+
+	/***
+	 * Method to retrieve the first element in the list
+	 * no parameters
+	 * @return value of the first element
+	 */
+	public E getFirst() { // O(1)
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		return head.items[0];
+	}
+
+	/***
+	 * Method to retrieve the last element in the list
+	 * no parameters
+	 * @return value of the last element
+	 */
+	public E getLast() { // O(1)
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		return tail.items[tail.count - 1];
+	}
+
+	/***
+	 * Method to remove the first element in the list
+	 * no parameters
+	 * @return true
+	 */
+	public boolean removeFirst() { // O(1)
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		removeFromNode(head, 0);
+		return true;
+	}
+
+	/***
+	 * Method to remove the last element in the list
+	 * no parameters
+	 * @return true
+	 */
+	public boolean removeLast() { // O(1)
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		removeFromNode(tail, tail.count - 1);
+		return true;
+	}
+
+	/***
+	 * Method to remove the item at index from the list
+	 * @param index from where the item has to be removed
+	 * @return item which has been removed
+	 */
+	public E remove(int index) { // O(n / nodeCapacity)
+		checkIndex(index);
+		Node node = head;
+		while (index >= node.count) {
+			index -= node.count;
+			node = node.next;
+		}
+		return removeFromNode(node, index);
+	}
+
+	/***
+	 * Method to insert an item inside a node which is not full
+	 * @param node where the item has to be inserted
+	 * @param offset which contains the position inside the node
+	 * @param item which contains the item
+	 * no return value
+	 */
+	private void insertInNode(Node node, int offset, E item) { // O(nodeCapacity)
+		System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+		node.items[offset] = item;
+		node.count++;
+		size++;
+	}
+
+	/***
+	 * Method to remove an item from a node, unlinking or merging the node when it gets too empty
+	 * @param node where the item has to be removed
+	 * @param offset which contains the position inside the node
+	 * @return item which has been removed
+	 */
+	private E removeFromNode(Node node, int offset) { // O(nodeCapacity)
+		E item = node.items[offset];
+		System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+		node.items[--node.count] = null;
+		size--;
+		if (node.count == 0) {
+			unlink(node);
+		} else if (node.count < nodeCapacity / 2) {
+			// merges with a neighbour when both fit in one node
+			if (node.next != null && node.count + node.next.count <= nodeCapacity) {
+				merge(node, node.next);
+			} else if (node.previous != null && node.previous.count + node.count <= nodeCapacity) {
+				merge(node.previous, node);
+			}
+		}
+		return item;
+	}
+
+	/***
+	 * Method to move the elements of second to the end of first and unlink second
+	 * @param first which receives the elements
+	 * @param second which is emptied and unlinked
+	 * no return value
+	 */
+	private void merge(Node first, Node second) {
+		System.arraycopy(second.items, 0, first.items, first.count, second.count);
+		first.count += second.count;
+		unlink(second);
+	}
+
+	private Node linkBefore(Node node) {
+		Node newNode = new Node();
+		nodeCount++;
+		if (node == null) { // empty list
+			head = tail = newNode;
+			return newNode;
+		}
+		newNode.next = node;
+		newNode.previous = node.previous;
+		if (node.previous == null) {
+			head = newNode;
+		} else {
+			node.previous.next = newNode;
+		}
+		node.previous = newNode;
+		return newNode;
+	}
+
+	private Node linkAfter(Node node) {
+		Node newNode = new Node();
+		nodeCount++;
+		if (node == null) { // empty list
+			head = tail = newNode;
+			return newNode;
+		}
+		newNode.previous = node;
+		newNode.next = node.next;
+		if (node.next == null) {
+			tail = newNode;
+		} else {
+			node.next.previous = newNode;
+		}
+		node.next = newNode;
+		return newNode;
+	}
+
+	private void unlink(Node node) {
+		if (node.previous == null) {
+			head = node.next;
+		} else {
+			node.previous.next = node.next;
+		}
+		if (node.next == null) {
+			tail = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		nodeCount--;
+	}
+
+	/***
+	 * Method to check validity of index
+	 * @param index which needs to be checked
+	 * no return value
+	 */
+	private void checkIndex(int index) { // O(1)
+		if (index < 0 || index >= size)
+			throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + (size - 1));
+	}
+
+	/***
+	 * Method to return values of the list
+	 * no parameters
+	 * @return string containing all the values
+	 */
+	public String toString() { // O(n)
+		StringBuilder output = new StringBuilder("[");
+		for (Node node = head; node != null; node = node.next) {
+			for (int i = 0; i < node.count; i++) {
+				output.append(node.items[i]).append(' ');
+			}
+		}
+		return output.append(']').toString();
+	}
+
+	/***
+	 * Method to clear the list
+	 * no parameters
+	 * no return value
+	 */
+	public void clear() { // O(1)
+		head = tail = null;
+		size = 0;
+		nodeCount = 0;
+	}
+
+	/***
+	 * Method to check if list is empty
+	 * no parameters
+	 * @return true if its empty, false if its not empty
+	 */
+	public boolean isEmpty() { // O(1)
+		return (size == 0);
+	}
+
+	/***
+	 * Method to return list size
+	 * no parameters
+	 * @return list size
+	 */
+	public int size() { // O(1)
+		return size;
+	}
+
+	/***
+	 * Method to return the number of nodes in the list
+	 * no parameters
+	 * @return number of nodes
+	 */
+	public int nodeCount() { // O(1)
+		return nodeCount;
+	}
+
+	/***
+	 * Method to generate an iterator for the list
+	 * no parameters
+	 * @return UnrolledListIterator
+	 */
+	public Iterator<E> iterator() { // O(1)
+		return new UnrolledListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list
+	 * no parameters
+	 * @return UnrolledListIterator
+	 */
+	public ListIterator<E> listIterator() { // O(1)
+		return new UnrolledListIterator(0);
+	}
+
+	/***
+	 * Method to generate a list iterator for the list starting at the index passed
+	 * @param index according to which the list iterator needs to be created
+	 * @return UnrolledListIterator
+	 */
+	public ListIterator<E> listIterator(int index) { // O(n / nodeCapacity)
+		if (index < 0 || index > size) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		return new UnrolledListIterator(index);
+	}
+
+	// Inner list iterator class which moves through the nodes in both directions
+	private class UnrolledListIterator implements ListIterator<E> {
+		// data members, the next element is node.items[offset], node is null past the end
+		private Node node;
+		private int offset;
+		private int index;
+
+		/***
+		 * Constructor for the list iterator class
+		 * @param index which contains the position the iterator starts at
+		 */
+		private UnrolledListIterator(int index) { // O(n / nodeCapacity)
+			this.index = index;
+			if (index == size) {
+				node = null;
+				offset = 0;
+				return;
+			}
+			node = head;
+			offset = index;
+			while (offset >= node.count) {
+				offset -= node.count;
+				node = node.next;
+			}
+		}
+
+		public boolean hasNext() { // O(1)
+			return index < size;
+		}
+
+		public E next() { // O(1)
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			E value = node.items[offset++];
+			index++;
+			if (offset == node.count) {
+				node = node.next;
+				offset = 0;
+			}
+			return value;
+		}
+
+		public boolean hasPrevious() { // O(1)
+			return index > 0;
+		}
+
+		public E previous() { // O(1)
+			if (index <= 0) {
+				throw new NoSuchElementException();
+			}
+			if (offset == 0) {
+				node = (node == null) ? tail : node.previous;
+				offset = node.count;
+			}
+			index--;
+			return node.items[--offset];
+		}
+
+		public int nextIndex() { // O(1)
+			return index;
+		}
+
+		public int previousIndex() { // O(1)
+			return index - 1;
+		}
+
+		public void set(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void add(E e) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/***
+ * Class to benchmark UnrolledLinkedList against the node-per-element LinkedList and DoublyLinkedList
+ * The build benchmark reports the bytes allocated per element, which is the memory the list keeps
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.util.ListIterator; // to traverse the lists
+
+public class UnrolledLinkedListBenchmark {
+
+	/***
+	 * Main method which runs the comparison
+	 * @param args optional list sizes, for example 10000 1000000
+	 * no return value
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {10_000, 1_000_000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+		}
+		ListBenchmark.printHeader();
+		for (int size : sizes) {
+			String params = "Integer/" + size;
+			Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) values[i] = i;
+
+			// memory: bytes allocated per element while building the list
+			ListBenchmark.run("LinkedList.build", params, () -> new LinkedList<Integer>(), list -> {
+				for (int i = 0; i < size; i++) list.addLast(values[i]);
+				return size;
+			});
+			ListBenchmark.run("DoublyLinkedList.build", params, () -> new DoublyLinkedList<Integer>(), list -> {
+				for (int i = 0; i < size; i++) list.addLast(values[i]);
+				return size;
+			});
+			ListBenchmark.run("UnrolledLinkedList.build", params, () -> new UnrolledLinkedList<Integer>(), list -> {
+				for (int i = 0; i < size; i++) list.addLast(values[i]);
+				return size;
+			});
+
+			// traversal
+			ListBenchmark.run("LinkedList.iterateForward", params, () -> fill(new LinkedList<Integer>(), values),
+					UnrolledLinkedListBenchmark::forward);
+			ListBenchmark.run("DoublyLinkedList.iterateForward", params, () -> fill(new DoublyLinkedList<Integer>(), values),
+					UnrolledLinkedListBenchmark::forward);
+			ListBenchmark.run("UnrolledLinkedList.iterateForward", params, () -> fill(new UnrolledLinkedList<Integer>(), values),
+					UnrolledLinkedListBenchmark::forward);
+			ListBenchmark.run("DoublyLinkedList.iterateBackward", params, () -> fill(new DoublyLinkedList<Integer>(), values),
+					UnrolledLinkedListBenchmark::backward);
+			ListBenchmark.run("UnrolledLinkedList.iterateBackward", params, () -> fill(new UnrolledLinkedList<Integer>(), values),
+					UnrolledLinkedListBenchmark::backward);
+
+			// queue style churn, adding at the end and removing from the front
+			ListBenchmark.run("DoublyLinkedList.addLastRemoveFirst", params, () -> fill(new DoublyLinkedList<Integer>(), values), list -> {
+				for (int i = 0; i < size; i++) {
+					list.addLast(values[i]);
+					list.removeFirst();
+				}
+				return size;
+			});
+			ListBenchmark.run("UnrolledLinkedList.addLastRemoveFirst", params, () -> fill(new UnrolledLinkedList<Integer>(), values), list -> {
+				for (int i = 0; i < size; i++) {
+					list.addLast(values[i]);
+					list.removeFirst();
+				}
+				return size;
+			});
+		}
+	}
+
+	private static <L extends List<Integer>> L fill(L list, Integer[] values) {
+		for (Integer value : values) list.add(value);
+		return list;
+	}
+
+	private static long forward(List<Integer> list) {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) sum += it.next();
+		ListBenchmark.consume(sum);
+		return list.size();
+	}
+
+	private static long backward(List<Integer> list) {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator(list.size());
+		while (it.hasPrevious()) sum += it.previous();
+		ListBenchmark.consume(sum);
+		return list.size();
+	}
+}
@@ -0,0 +1,616 @@
+/***
+ * Class to replay a trace of list operations against the lists and report the latency of every operation
+ * The trace is either read from a file with one operation per line, for example add, insert 12, get 7,
+ * remove 3 or iterate, or generated from a weighted mix, indexes are taken modulo the size of the list
+ * so any trace can be replayed against any list and any starting size
+ * Threads share one list, lists that are not thread safe are guarded by a lock, with a rate the operations
+ * are scheduled at fixed intervals and the latency is measured from the scheduled start, so a stall also
+ * counts against the operations that had to wait behind it
+ * Items are the lines of countries.txt, read with Test.readFromFile
+ * Usage: java WorkloadReplay [-list name|all] [-trace file | -mix add=40,insert=10,get=40,remove=9,iterate=1]
+ *        [-ops n] [-seed n] [-preload n] [-threads n] [-rate ops/s] [-rounds n] [-data file]
+ *        [-record file] [-csv file] [-json file]
+ * @author Udita Agarwal
+ * @version 0.1
+ * Date of creation: October 17th, 2026
+ * Last Date Modified: October 17th, 2026
+ */
+
+
+import java.io.BufferedReader; // to read the trace
+import java.io.BufferedWriter; // to write the trace and the results
+import java.io.IOException; // to report read and write errors
+import java.nio.charset.StandardCharsets; // to read and write text files as UTF-8
+import java.nio.file.Files; // to open the files
+import java.nio.file.Paths; // to turn file names into paths
+import java.util.Arrays; // to grow the trace arrays
+import java.util.LinkedHashMap; // to keep the lists in the order they are registered
+import java.util.ListIterator; // to walk the lists
+import java.util.Locale; // to print numbers with a dot
+import java.util.Map; // to look the lists up by name
+import java.util.Random; // to generate the synthetic trace
+import java.util.Set; // to name the thread safe lists
+import java.util.concurrent.CountDownLatch; // to start all threads at once
+import java.util.concurrent.locks.LockSupport; // to wait for the scheduled start of an operation
+import java.util.function.IntFunction; // to call get and remove on the list under test
+import java.util.function.Supplier; // to create a fresh list for every round
+
+public class WorkloadReplay {
+
+	private static final String[] OPS = {"add", "insert", "get", "remove", "iterate"};
+	private static final int ADD = 0, INSERT = 1, GET = 2, REMOVE = 3, ITERATE = 4;
+	private static final int ALL = OPS.length; // slot of the histogram holding every operation
+
+	// lists that can be shared by threads without a lock
+	private static final Set<String> THREAD_SAFE = Set.of("CopyOnWriteArrayList", "StampedArrayList");
+
+	// lists that can be replayed, by name
+	private static final Map<String, Supplier<Target>> TARGETS = new LinkedHashMap<>();
+
+	static {
+		TARGETS.put("ArrayList", () -> {
+			ArrayList<String> list = new ArrayList<>();
+			return indexed(list, list::get, list::add, list::remove);
+		});
+		TARGETS.put("LinkedList", () -> walked(new LinkedList<>()));
+		TARGETS.put("DoublyLinkedList", () -> walked(new DoublyLinkedList<>()));
+		TARGETS.put("CompactDoublyLinkedList", () -> walked(new CompactDoublyLinkedList<>()));
+		TARGETS.put("UnrolledLinkedList", () -> {
+			UnrolledLinkedList<String> list = new UnrolledLinkedList<>();
+			return indexed(list, list::get, list::add, list::remove);
+		});
+		TARGETS.put("GapBufferList", () -> {
+			GapBufferList<String> list = new GapBufferList<>();
+			return indexed(list, list::get, list::add, list::remove);
+		});
+		TARGETS.put("RingBufferList", () -> {
+			RingBufferList<String> list = new RingBufferList<>();
+			return indexed(list, list::get, null, list::remove);
+		});
+		TARGETS.put("CopyOnWriteArrayList", () -> {
+			CopyOnWriteArrayList<String> list = new CopyOnWriteArrayList<>();
+			return indexed(list, list::get, list::add, list::remove);
+		});
+		TARGETS.put("StampedArrayList", () -> {
+			StampedArrayList<String> list = new StampedArrayList<>();
+			return indexed(list, list::get, list::add, list::remove);
+		});
+	}
+
+	// operations of the list under test, each returns false if the list cannot perform it
+	private interface Target {
+		boolean add(String item);
+		boolean insert(int index, String item);
+		boolean get(int index);
+		boolean remove(int index);
+		boolean iterate();
+		int size();
+	}
+
+	// positional insert of a list, the lists share the method name but no interface
+	private interface Insert {
+		void insert(int index, String item);
+	}
+
+	// operations to replay, the argument of an operation is its index before it is taken modulo the size
+	private static final class Trace {
+		private byte[] ops = new byte[1024];
+		private int[] args = new int[1024];
+		private int length;
+
+		private void add(int op, int arg) {
+			if (length == ops.length) {
+				ops = Arrays.copyOf(ops, length * 2);
+				args = Arrays.copyOf(args, length * 2);
+			}
+			ops[length] = (byte) op;
+			args[length] = arg;
+			length++;
+		}
+	}
+
+	// latencies of one replay, one histogram per operation and one for all of them
+	private static final class Result {
+		private final String list;
+		private final LatencyHistogram[] histograms = new LatencyHistogram[ALL + 1];
+		private final long[] skipped = new long[ALL + 1];
+		private long nanos;
+
+		private Result(String list) {
+			this.list = list;
+			for (int i = 0; i <= ALL; i++) histograms[i] = new LatencyHistogram();
+		}
+
+		private void add(Result other) {
+			for (int i = 0; i <= ALL; i++) {
+				histograms[i].add(other.histograms[i]);
+				skipped[i] += other.skipped[i];
+			}
+		}
+
+		private double throughput() {
+			return histograms[ALL].count() * 1e9 / nanos;
+		}
+	}
+
+	/***
+	 * Main method which replays the trace against the chosen lists and prints the latencies
+	 * @param args options as described in the class comment
+	 * no return value
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		String listName = "all";
+		String traceFile = null;
+		String mix = "add=40,insert=10,get=40,remove=9,iterate=1";
+		int ops = 200_000;
+		long seed = 42;
+		int preload = 10_000;
+		int threads = 1;
+		double rate = 0;
+		int rounds = 3;
+		String dataFile = "countries.txt";
+		String recordFile = null;
+		String csvFile = null;
+		String jsonFile = null;
+		for (int i = 0; i < args.length; i++) {
+			String option = args[i];
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("Missing value for " + option);
+			}
+			String value = args[++i];
+			switch (option) {
+				case "-list": listName = value; break;
+				case "-trace": traceFile = value; break;
+				case "-mix": mix = value; break;
+				case "-ops": ops = Integer.parseInt(value); break;
+				case "-seed": seed = Long.parseLong(value); break;
+				case "-preload": preload = Integer.parseInt(value); break;
+				case "-threads": threads = Integer.parseInt(value); break;
+				case "-rate": rate = Double.parseDouble(value); break;
+				case "-rounds": rounds = Integer.parseInt(value); break;
+				case "-data": dataFile = value; break;
+				case "-record": recordFile = value; break;
+				case "-csv": csvFile = value; break;
+				case "-json": jsonFile = value; break;
+				default: throw new IllegalArgumentException("Unknown option " + option);
+			}
+		}
+		if (threads < 1 || rounds < 1 || preload < 0 || rate < 0) {
+			throw new IllegalArgumentException("Threads and rounds must be positive, preload and rate not negative");
+		}
+		if (rate > 1e9 * threads) {
+			throw new IllegalArgumentException("Rate " + rate + " is more than one operation per nanosecond per thread");
+		}
+		if (!listName.equals("all") && !TARGETS.containsKey(listName)) {
+			throw new IllegalArgumentException("Unknown list " + listName + ", one of " + TARGETS.keySet() + " or all");
+		}
+
+		ArrayList<String> items = new ArrayList<>();
+		Test.readFromFile(items, dataFile);
+		if (items.isEmpty()) {
+			throw new IllegalArgumentException(dataFile + " has no lines to use as items");
+		}
+		Trace trace = traceFile != null ? readTrace(traceFile) : generate(mix, ops, seed);
+		if (recordFile != null) {
+			writeTrace(trace, recordFile);
+		}
+
+		System.out.printf(Locale.ROOT, "Replaying %d operations on %d thread(s), %s, %d items preloaded%n",
+				trace.length, threads, rate > 0 ? String.format(Locale.ROOT, "%.0f ops/s", rate) : "unthrottled",
+				preload);
+		System.out.printf("%-24s %-8s %10s %8s %10s %10s %10s %10s %10s%n",
+				"List", "Op", "Count", "Skipped", "p50 (us)", "p99 (us)", "p99.9 (us)", "Max (us)", "Mean (us)");
+		java.util.List<Result> results = new java.util.ArrayList<>();
+		for (Map.Entry<String, Supplier<Target>> entry : TARGETS.entrySet()) {
+			if (!listName.equals("all") && !listName.equals(entry.getKey())) {
+				continue;
+			}
+			Result result = null;
+			for (int round = 0; round < rounds; round++) { // the first rounds warm up the JIT
+				result = replay(entry.getKey(), entry.getValue(), trace, items, preload, threads, rate);
+			}
+			print(result);
+			results.add(result);
+		}
+		if (csvFile != null) {
+			writeCsv(results, threads, rate, csvFile);
+		}
+		if (jsonFile != null) {
+			writeJson(results, trace.length, threads, rate, jsonFile);
+		}
+	}
+
+	/***
+	 * Method to replay a trace against a fresh list, thread t performs operations t, t + threads, t + 2 * threads...
+	 * @param name which contains the name of the list
+	 * @param factory which creates the list
+	 * @param trace which contains the operations
+	 * @param items which contains the items to add, used in turn
+	 * @param preload which contains the number of items added before the replay
+	 * @param threads which contains the number of threads
+	 * @param rate which contains the total operations per second, 0 to run unthrottled
+	 * @return the latencies of all threads
+	 */
+	private static Result replay(String name, Supplier<Target> factory, Trace trace, ArrayList<String> items,
+			int preload, int threads, double rate) throws InterruptedException {
+		Target target = factory.get();
+		for (int i = 0; i < preload; i++) target.add(items.get(i % items.size()));
+		if (threads > 1 && !THREAD_SAFE.contains(name)) {
+			target = locked(target);
+		}
+		Target list = target;
+		long interval = rate > 0 ? (long) (1e9 * threads / rate) : 0; // between the operations of one thread
+		Result[] partial = new Result[threads];
+		CountDownLatch start = new CountDownLatch(1);
+		long[] begin = new long[1];
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			int first = t;
+			Result result = partial[t] = new Result(name);
+			workers[t] = new Thread(() -> {
+				await(start);
+				long scheduled = begin[0];
+				for (int i = first; i < trace.length; i += threads) {
+					String item = items.get(i % items.size()); // fetched before the clock starts
+					long opStart;
+					if (interval > 0) {
+						scheduled += interval;
+						long wait;
+						while ((wait = scheduled - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+						opStart = scheduled;
+					} else {
+						opStart = System.nanoTime();
+					}
+					int op = trace.ops[i];
+					boolean done = perform(list, op, trace.args[i], item);
+					long latency = System.nanoTime() - opStart;
+					if (done) {
+						result.histograms[op].record(latency);
+						result.histograms[ALL].record(latency);
+					} else {
+						result.skipped[op]++;
+						result.skipped[ALL]++;
+					}
+				}
+			});
+		}
+		for (Thread worker : workers) worker.start();
+		begin[0] = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) worker.join();
+		Result total = new Result(name);
+		total.nanos = System.nanoTime() - begin[0];
+		for (Result result : partial) total.add(result);
+		ListBenchmark.consume(list.size());
+		return total;
+	}
+
+	/***
+	 * Method to perform one operation, the index is taken modulo the size of the list
+	 * @param list which is the list under test
+	 * @param op which contains the operation
+	 * @param arg which contains the index before it is taken modulo the size
+	 * @param item which contains the item to add or insert
+	 * @return true if the operation was performed, false if the list cannot perform it or is empty
+	 */
+	private static boolean perform(Target list, int op, int arg, String item) {
+		try {
+			switch (op) {
+				case ADD: return list.add(item);
+				case INSERT: return list.insert(arg % (list.size() + 1), item);
+				case GET: return list.size() > 0 && list.get(arg % list.size());
+				case REMOVE: return list.size() > 0 && list.remove(arg % list.size());
+				default: return list.iterate();
+			}
+		}
+		// another thread shrank the list between reading its size and the operation
+		catch (IndexOutOfBoundsException e) {
+			return false;
+		}
+	}
+
+	/***
+	 * Method to adapt a list with positional get, insert and remove
+	 * @param list which is the list under test
+	 * @param get which gets an element by index
+	 * @param insert which inserts an element at an index, or null if the list cannot insert
+	 * @param remove which removes an element by index
+	 * @return the adapted list
+	 */
+	private static Target indexed(List<String> list, IntFunction<String> get, Insert insert,
+			IntFunction<String> remove) {
+		return new Target() {
+			public boolean add(String item) {
+				return list.add(item);
+			}
+
+			public boolean insert(int index, String item) {
+				if (insert == null) {
+					return false;
+				}
+				insert.insert(index, item);
+				return true;
+			}
+
+			public boolean get(int index) {
+				ListBenchmark.consume(get.apply(index));
+				return true;
+			}
+
+			public boolean remove(int index) {
+				ListBenchmark.consume(remove.apply(index));
+				return true;
+			}
+
+			public boolean iterate() {
+				return WorkloadReplay.iterate(list);
+			}
+
+			public int size() {
+				return list.size();
+			}
+		};
+	}
+
+	/***
+	 * Method to adapt a linked list that has no positional operations, get walks the iterator to the index
+	 * and insert and remove are skipped
+	 * @param list which is the list under test
+	 * @return the adapted list
+	 */
+	private static Target walked(List<String> list) {
+		return new Target() {
+			public boolean add(String item) {
+				return list.add(item);
+			}
+
+			public boolean insert(int index, String item) {
+				return false;
+			}
+
+			public boolean get(int index) {
+				ListIterator<String> it = list.listIterator();
+				for (int i = 0; i < index; i++) it.next();
+				ListBenchmark.consume(it.next());
+				return true;
+			}
+
+			public boolean remove(int index) {
+				return false;
+			}
+
+			public boolean iterate() {
+				return WorkloadReplay.iterate(list);
+			}
+
+			public int size() {
+				return list.size();
+			}
+		};
+	}
+
+	/***
+	 * Method to guard every operation of a list with one lock so threads can share it
+	 * @param target which is the list under test
+	 * @return the guarded list
+	 */
+	private static Target locked(Target target) {
+		return new Target() {
+			public synchronized boolean add(String item) {
+				return target.add(item);
+			}
+
+			public synchronized boolean insert(int index, String item) {
+				return target.insert(index, item);
+			}
+
+			public synchronized boolean get(int index) {
+				return target.get(index);
+			}
+
+			public synchronized boolean remove(int index) {
+				return target.remove(index);
+			}
+
+			public synchronized boolean iterate() {
+				return target.iterate();
+			}
+
+			public synchronized int size() {
+				return target.size();
+			}
+		};
+	}
+
+	private static boolean iterate(List<String> list) {
+		int length = 0;
+		ListIterator<String> it = list.listIterator();
+		while (it.hasNext()) length += it.next().length();
+		ListBenchmark.consume(length);
+		return true;
+	}
+
+	/***
+	 * Method to generate a trace from a weighted mix of operations
+	 * @param mix which contains weights such as add=40,get=60, operations left out are not generated
+	 * @param ops which contains the number of operations
+	 * @param seed which contains the seed of the random generator, the same seed gives the same trace
+	 * @return the trace
+	 */
+	private static Trace generate(String mix, int ops, long seed) {
+		int[] weights = new int[OPS.length];
+		int total = 0;
+		for (String part : mix.split(",")) {
+			String[] pair = part.trim().split("=");
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("Mix entries look like get=40: " + part);
+			}
+			int weight = Integer.parseInt(pair[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("Weight must not be negative: " + part);
+			}
+			weights[opOf(pair[0].trim())] += weight;
+			total += weight;
+		}
+		if (total == 0) {
+			throw new IllegalArgumentException("Mix has no operations: " + mix);
+		}
+		Random random = new Random(seed);
+		Trace trace = new Trace();
+		for (int i = 0; i < ops; i++) {
+			int pick = random.nextInt(total);
+			int op = 0;
+			while (pick >= weights[op]) pick -= weights[op++];
+			trace.add(op, random.nextInt(Integer.MAX_VALUE));
+		}
+		return trace;
+	}
+
+	/***
+	 * Method to read a trace file, blank lines and lines starting with # are ignored
+	 * @param fileName which contains the name of the trace file
+	 * @return the trace
+	 */
+	private static Trace readTrace(String fileName) throws IOException {
+		Trace trace = new Trace();
+		try (BufferedReader in = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			String line;
+			int number = 0;
+			while ((line = in.readLine()) != null) {
+				number++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				String[] parts = line.split("\\s+");
+				int op = opOf(parts[0]);
+				boolean indexed = op == INSERT || op == GET || op == REMOVE;
+				if (parts.length != (indexed ? 2 : 1)) {
+					throw new IOException(fileName + ":" + number + ": expected " + (indexed ? "an index" : "no index")
+							+ " after " + parts[0]);
+				}
+				int arg = indexed ? Integer.parseInt(parts[1]) : 0;
+				if (arg < 0) {
+					throw new IOException(fileName + ":" + number + ": index must not be negative");
+				}
+				trace.add(op, arg);
+			}
+		}
+		return trace;
+	}
+
+	/***
+	 * Method to write a trace in the format readTrace reads, so a synthetic trace can be replayed later
+	 * @param trace which contains the operations
+	 * @param fileName which contains the name of the file
+	 * no return value
+	 */
+	private static void writeTrace(Trace trace, String fileName) throws IOException {
+		try (BufferedWriter out = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			for (int i = 0; i < trace.length; i++) {
+				int op = trace.ops[i];
+				out.write(OPS[op]);
+				if (op == INSERT || op == GET || op == REMOVE) {
+					out.write(' ');
+					out.write(Integer.toString(trace.args[i]));
+				}
+				out.newLine();
+			}
+		}
+	}
+
+	private static int opOf(String name) {
+		for (int i = 0; i < OPS.length; i++) {
+			if (OPS[i].equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Unknown operation " + name + ", one of " + String.join(", ", OPS));
+	}
+
+	private static void print(Result result) {
+		for (int op = 0; op <= ALL; op++) {
+			LatencyHistogram h = result.histograms[op];
+			if (h.count() == 0 && result.skipped[op] == 0) {
+				continue;
+			}
+			System.out.printf(Locale.ROOT, "%-24s %-8s %10d %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+					result.list, op == ALL ? "all" : OPS[op], h.count(), result.skipped[op],
+					h.valueAtPercentile(50) / 1e3, h.valueAtPercentile(99) / 1e3, h.valueAtPercentile(99.9) / 1e3,
+					h.max() / 1e3, h.mean() / 1e3);
+		}
+		System.out.printf(Locale.ROOT, "%-24s %-8s %10.0f ops/s%n", result.list, "thrpt", result.throughput());
+	}
+
+	/***
+	 * Method to write the results as CSV, one row per list and operation, latencies in nanoseconds
+	 * @param results which contains the results of the lists
+	 * @param threads which contains the number of threads
+	 * @param rate which contains the requested rate, 0 if unthrottled
+	 * @param fileName which contains the name of the file
+	 * no return value
+	 */
+	private static void writeCsv(java.util.List<Result> results, int threads, double rate, String fileName)
+			throws IOException {
+		try (BufferedWriter out = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			out.write("list,threads,rate,op,count,skipped,p50_ns,p99_ns,p999_ns,max_ns,mean_ns,throughput_ops_s");
+			out.newLine();
+			for (Result result : results) {
+				for (int op = 0; op <= ALL; op++) {
+					LatencyHistogram h = result.histograms[op];
+					out.write(String.format(Locale.ROOT, "%s,%d,%.0f,%s,%d,%d,%d,%d,%d,%d,%.1f,%.0f",
+							result.list, threads, rate, op == ALL ? "all" : OPS[op], h.count(), result.skipped[op],
+							h.valueAtPercentile(50), h.valueAtPercentile(99), h.valueAtPercentile(99.9), h.max(),
+							h.mean(), result.throughput()));
+					out.newLine();
+				}
+			}
+		}
+	}
+
+	/***
+	 * Method to write the results as JSON, one object per list with the latencies of every operation in nanoseconds
+	 * @param results which contains the results of the lists
+	 * @param ops which contains the number of operations in the trace
+	 * @param threads which contains the number of threads
+	 * @param rate which contains the requested rate, 0 if unthrottled
+	 * @param fileName which contains the name of the file
+	 * no return value
+	 */
+	private static void writeJson(java.util.List<Result> results, int ops, int threads, double rate, String fileName)
+			throws IOException {
+		try (BufferedWriter out = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			out.write(String.format(Locale.ROOT, "{\"ops\": %d, \"threads\": %d, \"rate\": %.0f, \"results\": [",
+					ops, threads, rate));
+			for (int r = 0; r < results.size(); r++) {
+				Result result = results.get(r);
+				out.write(r == 0 ? "" : ",");
+				out.newLine();
+				out.write(String.format(Locale.ROOT, "  {\"list\": \"%s\", \"throughput\": %.0f, \"operations\": {",
+						result.list, result.throughput()));
+				for (int op = 0; op <= ALL; op++) {
+					LatencyHistogram h = result.histograms[op];
+					out.write(op == 0 ? "" : ",");
+					out.newLine();
+					out.write(String.format(Locale.ROOT, "    \"%s\": {\"count\": %d, \"skipped\": %d, \"p50\": %d, "
+							+ "\"p99\": %d, \"p999\": %d, \"max\": %d, \"mean\": %.1f}",
+							op == ALL ? "all" : OPS[op], h.count(), result.skipped[op], h.valueAtPercentile(50),
+							h.valueAtPercentile(99), h.valueAtPercentile(99.9), h.max(), h.mean()));
+				}
+				out.newLine();
+				out.write("  }}");
+			}
+			out.newLine();
+			out.write("]}");
+			out.newLine();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}